@@ -0,0 +1,208 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+/**
+ * Helpers shared by the benchmarks, for generating the bundles and configuring the mojos the way Maven would.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Creates bundle projects, each having a bundle jar with a single incompressible entry of given size.
+     */
+    static List<MavenProject> createBundleProjects(Path directory, int count, int sizeKb) throws IOException {
+        List<MavenProject> projects = new ArrayList<>();
+        Random random = new Random(count * 31L + sizeKb);
+        byte[] content = new byte[sizeKb * 1024];
+        for (int index = 0; index < count; index++) {
+            String name = "bench.bundle" + index;
+            Path target = Files.createDirectories(directory.resolve(name));
+            Manifest manifest = new Manifest();
+            Attributes attributes = manifest.getMainAttributes();
+            attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            attributes.putValue(Constants.BUNDLE_NAME, name);
+            attributes.putValue(Constants.BUNDLE_SYMBOLIC_NAME, name);
+            attributes.putValue(Constants.BUNDLE_VERSION, "1.0.0");
+            random.nextBytes(content);
+            try (OutputStream out = Files.newOutputStream(target.resolve(name + ".jar"));
+                 JarOutputStream jar = new JarOutputStream(out, manifest)) {
+                JarEntry entry = new JarEntry("content.bin");
+                jar.putNextEntry(entry);
+                jar.write(content);
+                jar.closeEntry();
+            }
+            MavenProject project = new MavenProject();
+            Build build = new Build();
+            build.setDirectory(target.toString());
+            build.setFinalName(name);
+            project.setBuild(build);
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static Path getBundleFile(MavenProject project) {
+        return Path.of(project.getBuild().getDirectory(), project.getBuild().getFinalName() + ".jar");
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Sets the parameters which Maven would otherwise inject from their default values.
+     */
+    static <T extends AbstractBundleMojo> T configure(T mojo, String baseUrl, TransportType transport) {
+        mojo.setLog(new QuietLog());
+        mojo.baseUrl = baseUrl;
+        mojo.consoleUrl = Constants.DEFAULT_CONSOLE_URL;
+        mojo.loginUrl = Constants.DEFAULT_LOGIN_URL;
+        mojo.logoutUrl = Constants.DEFAULT_LOGOUT_URL;
+        mojo.user = "admin";
+        mojo.password = "admin";
+        mojo.failOnError = true;
+        mojo.startLevel = "20";
+        mojo.startBundle = true;
+        mojo.refreshPackages = true;
+        mojo.connectTimeout = 10;
+        mojo.socketTimeout = 60;
+        mojo.responseTimeout = 180;
+        mojo.transport = transport;
+        mojo.deployStrategy = DeployStrategy.ALL_AT_ONCE;
+        mojo.deployBatchSize = 1;
+        mojo.retryMaxAttempts = 1;
+        if (mojo instanceof BundleInstallMojo installMojo) {
+            installMojo.uploadBufferSize = 256 * 1024;
+            installMojo.uploadProgressInterval = 0;
+            installMojo.uploadCompression = Constants.COMPRESSION_NONE;
+            installMojo.compressionLevel = 6;
+            installMojo.compressionMinSavings = 10;
+            installMojo.activeTimeout = 60;
+            installMojo.preflightCacheDirectory = new File(System.getProperty("java.io.tmpdir"), "adeptj-exports");
+        }
+        return mojo;
+    }
+
+    /**
+     * Log discarding everything but errors, so that the benchmark output isn't flooded.
+     */
+    static final class QuietLog implements Log {
+
+        @Override
+        public boolean isDebugEnabled() {
+            return false;
+        }
+
+        @Override
+        public void debug(CharSequence content) {
+        }
+
+        @Override
+        public void debug(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void debug(Throwable error) {
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return false;
+        }
+
+        @Override
+        public void info(CharSequence content) {
+        }
+
+        @Override
+        public void info(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void info(Throwable error) {
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return false;
+        }
+
+        @Override
+        public void warn(CharSequence content) {
+        }
+
+        @Override
+        public void warn(CharSequence content, Throwable error) {
+        }
+
+        @Override
+        public void warn(Throwable error) {
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        public void error(CharSequence content) {
+            System.err.println(content);
+        }
+
+        @Override
+        public void error(CharSequence content, Throwable error) {
+            System.err.println(content);
+            error.printStackTrace();
+        }
+
+        @Override
+        public void error(Throwable error) {
+            error.printStackTrace();
+        }
+    }
+}
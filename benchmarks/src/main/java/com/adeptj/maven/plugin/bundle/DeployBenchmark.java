@@ -0,0 +1,107 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trip of the install and uninstall goals, for a single bundle, against {@link StubConsole}.
+ * <p>
+ * The throughput and the sampled latency are reported per bundle size, console latency, upload bandwidth (KB/s,
+ * 0 for unlimited) and HTTP transport; narrow down the matrix with e.g. {@code -p bundleSizeKb=1024}.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class DeployBenchmark {
+
+    @Param({"64", "1024", "16384"})
+    int bundleSizeKb;
+
+    @Param({"0", "20"})
+    long latencyMillis;
+
+    @Param({"0"})
+    long bandwidthKbps;
+
+    @Param({"CLASSIC", "ASYNC"})
+    String transport;
+
+    private StubConsole console;
+
+    private Path directory;
+
+    private String bundleFileName;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.console = StubConsole.start(this.latencyMillis, this.bandwidthKbps * 1024);
+        this.directory = Files.createTempDirectory("adeptj-bench");
+        List<MavenProject> projects = BenchmarkSupport.createBundleProjects(this.directory, 1, this.bundleSizeKb);
+        this.bundleFileName = BenchmarkSupport.getBundleFile(projects.getFirst()).toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.console.close();
+        BenchmarkSupport.delete(this.directory);
+    }
+
+    @Benchmark
+    public void install() throws MojoExecutionException {
+        this.configure(new BundleInstallMojo()).execute();
+    }
+
+    @Benchmark
+    public void uninstall() throws MojoExecutionException {
+        this.configure(new BundleUninstallMojo()).execute();
+    }
+
+    private <T extends AbstractBundleMojo> T configure(T mojo) {
+        BenchmarkSupport.configure(mojo, this.console.getBaseUrl(), TransportType.valueOf(this.transport));
+        mojo.bundleFileName = this.bundleFileName;
+        return mojo;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.project.MavenProject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the install-all goal for a reactor of bundles against {@link StubConsole}, per parallelism, which also
+ * sizes the HTTP connection pool.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class InstallAllBenchmark {
+
+    @Param({"16"})
+    int bundles;
+
+    @Param({"1024"})
+    int bundleSizeKb;
+
+    @Param({"20"})
+    long latencyMillis;
+
+    @Param({"0"})
+    long bandwidthKbps;
+
+    @Param({"CLASSIC", "ASYNC"})
+    String transport;
+
+    @Param({"1", "4", "8"})
+    int parallelism;
+
+    private StubConsole console;
+
+    private Path directory;
+
+    private List<MavenProject> projects;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.console = StubConsole.start(this.latencyMillis, this.bandwidthKbps * 1024);
+        this.directory = Files.createTempDirectory("adeptj-bench");
+        this.projects = BenchmarkSupport.createBundleProjects(this.directory, this.bundles, this.bundleSizeKb);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.console.close();
+        BenchmarkSupport.delete(this.directory);
+    }
+
+    @Benchmark
+    public void installAll() throws MojoExecutionException {
+        BundleInstallAllMojo mojo = new BundleInstallAllMojo();
+        BenchmarkSupport.configure(mojo, this.console.getBaseUrl(), TransportType.valueOf(this.transport));
+        mojo.reactorProjects = this.projects;
+        mojo.parallelism = this.parallelism;
+        mojo.execute();
+    }
+}
@@ -0,0 +1,215 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * In-process stand-in for the Felix web console of an AdeptJ Runtime instance, with the login, logout, install,
+ * uninstall and bundle JSON endpoints used by the mojos.
+ * <p>
+ * Every request is delayed by the configured latency and the request bodies are read no faster than the configured
+ * bandwidth, so that remote consoles over slow links can be simulated.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class StubConsole implements AutoCloseable {
+
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private final long latencyMillis;
+
+    private final long bandwidthBytesPerSecond;
+
+    private final AtomicLong installs;
+
+    /**
+     * Bundles listed by bundles.json and uninstalled by id, by id.
+     */
+    private final Map<Long, String> registered;
+
+    private final AtomicLong nextId;
+
+    private final AtomicLong receivedBytes;
+
+    private StubConsole(long latencyMillis, long bandwidthBytesPerSecond) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.bandwidthBytesPerSecond = bandwidthBytesPerSecond;
+        this.installs = new AtomicLong();
+        this.receivedBytes = new AtomicLong();
+        this.registered = new ConcurrentSkipListMap<>();
+        this.nextId = new AtomicLong(1);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(this.executor);
+        this.server.createContext("/admin/login/j_security_check", this::login);
+        this.server.createContext("/admin/logout", exchange -> this.respond(exchange, 200, null));
+        this.server.createContext("/system/console/install", this::install);
+        this.server.createContext("/system/console/bundles", this::bundles);
+        this.server.createContext("/system/console/services.json",
+                exchange -> this.respond(exchange, 200, "{\"serviceCount\":0,\"data\":[]}"));
+        this.server.start();
+    }
+
+    /**
+     * @param latencyMillis           delay added to every request.
+     * @param bandwidthBytesPerSecond max upload rate, 0 for unlimited.
+     */
+    static StubConsole start(long latencyMillis, long bandwidthBytesPerSecond) throws IOException {
+        return new StubConsole(latencyMillis, bandwidthBytesPerSecond);
+    }
+
+    String getBaseUrl() {
+        return "http://127.0.0.1:" + this.server.getAddress().getPort();
+    }
+
+    long getInstalls() {
+        return this.installs.get();
+    }
+
+    long getReceivedBytes() {
+        return this.receivedBytes.get();
+    }
+
+    /**
+     * Registers a bundle with given symbolic name, to be listed and uninstalled.
+     */
+    void register(String symbolicName) {
+        this.registered.put(this.nextId.getAndIncrement(), symbolicName);
+    }
+
+    int getRegistered() {
+        return this.registered.size();
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        this.consume(exchange);
+        exchange.getResponseHeaders().add("Set-Cookie", "JSESSIONID=" + UUID.randomUUID() + "; Path=/");
+        this.respond(exchange, 200, null);
+    }
+
+    private void install(HttpExchange exchange) throws IOException {
+        this.consume(exchange);
+        this.installs.incrementAndGet();
+        this.respond(exchange, 200, null);
+    }
+
+    private void bundles(HttpExchange exchange) throws IOException {
+        this.consume(exchange);
+        String path = exchange.getRequestURI().getPath();
+        String name = path.substring(path.lastIndexOf('/') + 1).replace(".json", "");
+        if ("POST".equals(exchange.getRequestMethod())) {
+            if (name.chars().allMatch(Character::isDigit)) {
+                this.registered.remove(Long.parseLong(name));
+            }
+            this.respond(exchange, 200, "{\"fragment\":false,\"stateRaw\":1}");
+            return;
+        }
+        if (path.endsWith("/bundles.json") && !this.registered.isEmpty()) {
+            StringJoiner data = new StringJoiner(",");
+            this.registered.forEach((id, symbolicName) -> data.add("{\"id\":" + id + ",\"name\":\"" + symbolicName
+                    + "\",\"fragment\":false,\"stateRaw\":32,\"state\":\"Active\",\"version\":\"1.0.0\","
+                    + "\"symbolicName\":\"" + symbolicName + "\"}"));
+            this.respond(exchange, 200, "{\"status\":\"Bundle information: " + this.registered.size()
+                    + " bundles in total.\",\"data\":[" + data + "]}");
+            return;
+        }
+        this.respond(exchange, 200, "{\"status\":\"Bundle information: 1 bundle in total.\",\"s\":[1,1,0,0,0],"
+                + "\"data\":[{\"id\":42,\"name\":\"" + name + "\",\"fragment\":false,\"stateRaw\":32,"
+                + "\"state\":\"Active\",\"version\":\"1.0.0\",\"symbolicName\":\"" + name + "\"}]}");
+    }
+
+    private void consume(HttpExchange exchange) throws IOException {
+        byte[] buffer = new byte[READ_CHUNK_SIZE];
+        long startTime = System.nanoTime();
+        long total = 0;
+        try (InputStream body = exchange.getRequestBody()) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                this.throttle(total, startTime);
+            }
+        }
+        this.receivedBytes.addAndGet(total);
+    }
+
+    private void throttle(long total, long startTime) {
+        if (this.bandwidthBytesPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = TimeUnit.SECONDS.toNanos(total) / this.bandwidthBytesPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startTime);
+        if (aheadNanos > 0) {
+            sleep(TimeUnit.NANOSECONDS.toMillis(aheadNanos));
+        }
+    }
+
+    private void respond(HttpExchange exchange, int code, String body) throws IOException {
+        sleep(this.latencyMillis);
+        if (body == null || "HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(code, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream stream = exchange.getResponseBody()) {
+            stream.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.close();
+    }
+}
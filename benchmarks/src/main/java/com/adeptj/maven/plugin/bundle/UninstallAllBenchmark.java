@@ -0,0 +1,91 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the uninstall-all goal tearing down an environment of bundles registered on {@link StubConsole}, per
+ * parallelism.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class UninstallAllBenchmark {
+
+    @Param({"60"})
+    int bundles;
+
+    @Param({"20"})
+    long latencyMillis;
+
+    @Param({"1", "8"})
+    int parallelism;
+
+    private StubConsole console;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.console = StubConsole.start(this.latencyMillis, 0);
+    }
+
+    @Setup(Level.Invocation)
+    public void register() {
+        for (int index = 0; index < this.bundles; index++) {
+            this.console.register("bench.bundle" + index);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.console.close();
+    }
+
+    @Benchmark
+    public void uninstallAll() throws MojoExecutionException {
+        BundleUninstallAllMojo mojo = new BundleUninstallAllMojo();
+        BenchmarkSupport.configure(mojo, this.console.getBaseUrl(), TransportType.CLASSIC);
+        mojo.includes = List.of("bench.*");
+        mojo.parallelism = this.parallelism;
+        mojo.execute();
+    }
+}
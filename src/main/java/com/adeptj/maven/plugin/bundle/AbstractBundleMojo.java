@@ -19,38 +19,29 @@
 */
 package com.adeptj.maven.plugin.bundle;
 
-import org.apache.commons.lang3.Strings;
-import org.apache.hc.client5.http.classic.methods.HttpGet;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.cookie.BasicCookieStore;
-import org.apache.hc.client5.http.cookie.CookieStore;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.core5.http.NameValuePair;
-import org.apache.hc.core5.http.io.HttpClientResponseHandler;
-import org.apache.hc.core5.http.io.entity.HttpEntities;
-import org.apache.hc.core5.http.message.BasicNameValuePair;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.File;
 import java.io.IOException;
-import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
-import static com.adeptj.maven.plugin.bundle.Constants.COOKIE_JSESSIONID;
 import static com.adeptj.maven.plugin.bundle.Constants.DEFAULT_BASE_URL;
 import static com.adeptj.maven.plugin.bundle.Constants.DEFAULT_CONSOLE_URL;
 import static com.adeptj.maven.plugin.bundle.Constants.DEFAULT_LOGIN_URL;
 import static com.adeptj.maven.plugin.bundle.Constants.DEFAULT_LOGOUT_URL;
-import static com.adeptj.maven.plugin.bundle.Constants.J_PASSWORD;
-import static com.adeptj.maven.plugin.bundle.Constants.J_USERNAME;
-import static com.adeptj.maven.plugin.bundle.Constants.RT_ADAPTER_TOMCAT;
+import static com.adeptj.maven.plugin.bundle.Constants.METRICS_HISTORY_MAX_ROWS;
 import static com.adeptj.maven.plugin.bundle.Constants.VALUE_FALSE;
 import static com.adeptj.maven.plugin.bundle.Constants.VALUE_TRUE;
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_MANIFEST_READ;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_REFRESH;
 
 /**
  * Base for various bundle mojo implementations.
@@ -81,6 +72,13 @@ abstract class AbstractBundleMojo extends AbstractMojo {
     @Parameter(property = "adeptj.bundle.parallelVersion", defaultValue = VALUE_FALSE)
     boolean parallelVersion;
 
+    /**
+     * Max time, in seconds, to wait for the bundle to become active, or for the framework to settle after the packages
+     * refresh.
+     */
+    @Parameter(property = "adeptj.bundle.activeTimeout", defaultValue = "60")
+    int activeTimeout;
+
     @Parameter(property = "adeptj.base.url", defaultValue = DEFAULT_BASE_URL, required = true)
     String baseUrl;
 
@@ -88,123 +86,420 @@ abstract class AbstractBundleMojo extends AbstractMojo {
     String consoleUrl;
 
     @Parameter(property = "adeptj.login.url", defaultValue = DEFAULT_LOGIN_URL, required = true)
-    private String loginUrl;
+    String loginUrl;
 
     @Parameter(property = "adeptj.logout.url", defaultValue = DEFAULT_LOGOUT_URL)
-    private String logoutUrl;
+    String logoutUrl;
 
     @Parameter(property = "adeptj.user", defaultValue = "admin", required = true)
-    private String user;
+    String user;
 
     @Parameter(property = "adeptj.password", defaultValue = "admin", required = true)
-    private String password;
+    String password;
 
     @Parameter(property = "adeptj.server.adapter")
-    private String serverAdapter;
+    String serverAdapter;
 
-    private final CookieStore cookieStore;
+    /**
+     * Timeout, in seconds, for establishing the connection to the AdeptJ server, 0 means no timeout.
+     */
+    @Parameter(property = "adeptj.http.connectTimeout", defaultValue = "10")
+    int connectTimeout;
 
-    final CloseableHttpClient httpClient;
+    /**
+     * Max inactivity, in seconds, while reading from or writing to the socket, 0 means no timeout.
+     */
+    @Parameter(property = "adeptj.http.socketTimeout", defaultValue = "60")
+    int socketTimeout;
 
-    final HttpClientResponseHandler<ClientResponse> responseHandler;
+    /**
+     * Timeout, in seconds, for the response once the request has been sent, 0 means no timeout.
+     * <p>
+     * Note: Bundle install responds only after the bundle is started and packages refreshed, hence the generous
+     * default.
+     */
+    @Parameter(property = "adeptj.http.responseTimeout", defaultValue = "180")
+    int responseTimeout;
 
-    private boolean loginSucceeded;
+    /**
+     * Bytes of the response body kept for reporting what the server said about a failed request, e.g. the console's
+     * error or the servlet container's error page, 0 disables it.
+     */
+    @Parameter(property = "adeptj.http.responseBodyLimit", defaultValue = "2048")
+    int responseBodyLimit;
 
-    AbstractBundleMojo() {
-        this.cookieStore = new BasicCookieStore();
-        this.httpClient = HttpClients.custom()
-                .disableRedirectHandling()
-                .setDefaultCookieStore(this.cookieStore)
-                .build();
-        this.responseHandler = new ResponseHandler();
-    }
+    /**
+     * Transport used for talking to the AdeptJ server, one of CLASSIC, ASYNC or HTTP2, see {@link TransportType}.
+     */
+    @Parameter(property = "adeptj.http.transport", defaultValue = "CLASSIC")
+    TransportType transport;
+
+    /**
+     * Fetch the installed bundles once per AdeptJ instance and Maven session, see {@link BundleSnapshot}, rather than
+     * query the console for every bundle. Bundles changed on the server by others meanwhile go unnoticed.
+     */
+    @Parameter(property = "adeptj.snapshot", defaultValue = VALUE_FALSE)
+    boolean snapshot;
+
+    /**
+     * Time, in seconds, after which the snapshot of the installed bundles is fetched again.
+     */
+    @Parameter(property = "adeptj.snapshot.ttl", defaultValue = "600")
+    int snapshotTtl;
+
+    /**
+     * HTTP client tuning: timeouts, pool size, keep-alive, TLS versions, trust material of internal CAs, proxy and
+     * whether the client is kept warm for the whole build, see {@link HttpConfig}.
+     */
+    @Parameter
+    HttpConfig http;
+
+    /**
+     * Reuse the authenticated server session across the mojo executions of the Maven session, the session is
+     * validated with a single HEAD request and a login is done only when it has expired.
+     */
+    @Parameter(property = "adeptj.session.reuse", defaultValue = VALUE_FALSE)
+    boolean reuseSession;
+
+    /**
+     * Persist the reused session to {@link #sessionFile} so that it survives between the builds.
+     */
+    @Parameter(property = "adeptj.session.persist", defaultValue = VALUE_FALSE)
+    boolean persistSession;
+
+    @Parameter(property = "adeptj.session.file", defaultValue = "${user.home}/.adeptj/sessions.properties")
+    File sessionFile;
+
+    /**
+     * AdeptJ Runtime instances to deploy to, each with its own credentials and session, takes precedence over
+     * {@link #baseUrls} and {@link #baseUrl}.
+     */
+    @Parameter
+    List<ServerTarget> targets;
+
+    /**
+     * Comma separated base urls of the AdeptJ Runtime instances to deploy to, all sharing the same credentials.
+     */
+    @Parameter(property = "adeptj.base.urls")
+    List<String> baseUrls;
+
+    @Parameter(property = "adeptj.deploy.strategy", defaultValue = "ALL_AT_ONCE")
+    DeployStrategy deployStrategy;
+
+    /**
+     * Number of targets deployed to concurrently by the {@link DeployStrategy#ROLLING} strategy.
+     */
+    @Parameter(property = "adeptj.deploy.batchSize", defaultValue = "1")
+    int deployBatchSize;
+
+    /**
+     * Collect the time taken by each deployment phase and write it as JSON and CSV reports to
+     * {@link #metricsDirectory}.
+     */
+    @Parameter(property = "adeptj.metrics.enabled", defaultValue = VALUE_FALSE)
+    boolean metricsEnabled;
+
+    @Parameter(property = "adeptj.metrics.directory", defaultValue = "${project.build.directory}")
+    File metricsDirectory;
+
+    /**
+     * CSV history the metrics are appended to when {@link #metricsEnabled}, kept across builds and cleans, unlike the
+     * reports, for the plan goal to estimate the time from.
+     */
+    @Parameter(property = "adeptj.metrics.history", defaultValue = "${user.home}/.adeptj/deploy-history.csv")
+    File metricsHistory;
+
+    /**
+     * Log a per phase summary of the collected metrics.
+     */
+    @Parameter(property = "adeptj.metrics.summary", defaultValue = VALUE_FALSE)
+    boolean metricsSummary;
+
+    /**
+     * Attempts, the first one included, of the login, install and uninstall calls failing with a transient error such
+     * as a 503 or a connection reset, 1 means no retry. Overridden per operation by {@link #loginRetry},
+     * {@link #installRetry} and {@link #uninstallRetry}.
+     */
+    @Parameter(property = "adeptj.retry.maxAttempts", defaultValue = "1")
+    int retryMaxAttempts;
+
+    /**
+     * Delay, in milliseconds, before the first retry, doubled for every further one up to {@link #retryMaxDelay}.
+     */
+    @Parameter(property = "adeptj.retry.initialDelay", defaultValue = "500")
+    long retryInitialDelay;
 
-    abstract void doExecute(BundleInfo info) throws IOException, MojoExecutionException;
+    @Parameter(property = "adeptj.retry.maxDelay", defaultValue = "10000")
+    long retryMaxDelay;
+
+    @Parameter
+    RetryPolicy loginRetry;
+
+    @Parameter
+    RetryPolicy installRetry;
+
+    @Parameter
+    RetryPolicy uninstallRetry;
+
+    /**
+     * Consecutive transient failures after which the calls to an AdeptJ instance fail fast, for
+     * {@link #circuitOpenDuration} seconds, instead of hammering it, 0 disables the circuit breaker.
+     */
+    @Parameter(property = "adeptj.circuit.failureThreshold", defaultValue = "0")
+    int circuitFailureThreshold;
+
+    @Parameter(property = "adeptj.circuit.openDuration", defaultValue = "30")
+    int circuitOpenDuration;
+
+    @Parameter(defaultValue = "${mojoExecution}", readonly = true)
+    MojoExecution mojoExecution;
+
+    DeployMetrics metrics;
+
+    abstract void doExecute(ConsoleSession session, BundleInfo info) throws IOException, MojoExecutionException;
 
     abstract void handleException(Exception ex) throws MojoExecutionException;
 
+    /**
+     * Collects the bundles this mojo operates on, by default the one configured via {@link #bundleFileName}.
+     */
+    List<BundleInfo> getBundleInfos() throws IOException, MojoExecutionException {
+        return List.of(BundleInfo.of(new File(this.bundleFileName)));
+    }
+
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws IOException, MojoExecutionException {
+        for (BundleInfo info : infos) {
+            this.doExecute(session, info);
+        }
+    }
+
+    /**
+     * Given operation specific retry policy, or the one of the {@code adeptj.retry.*} parameters if there is none.
+     */
+    RetryPolicy getRetryPolicy(RetryPolicy policy) {
+        return policy == null ? new RetryPolicy(this.retryMaxAttempts, this.retryInitialDelay, this.retryMaxDelay)
+                : policy;
+    }
+
+    /**
+     * Effective HTTP client settings, the {@link #http} ones falling back to the {@code adeptj.http.*} parameters.
+     */
+    HttpConfig getHttpConfig() {
+        return (this.http == null ? new HttpConfig() : this.http).withDefaults(this.connectTimeout, this.socketTimeout,
+                this.responseTimeout, this.getMaxConnections());
+    }
+
+    /**
+     * Max connections the HttpClient pool may open to the AdeptJ server, mojo doing concurrent calls should raise it.
+     */
+    int getMaxConnections() {
+        return 1;
+    }
+
     @Override
     public void execute() throws MojoExecutionException {
+        this.metrics = new DeployMetrics(this.mojoExecution == null ? this.getClass().getSimpleName()
+                : this.mojoExecution.getGoal());
+        try {
+            List<BundleInfo> infos;
+            try {
+                // Bundles are read only once, irrespective of the number of targets.
+                infos = this.getBundleInfos();
+            } catch (IOException | IllegalArgumentException ex) {
+                this.handleException(ex);
+                return;
+            }
+            infos.forEach(info -> this.metrics.record(null, info.getSymbolicName(), PHASE_MANIFEST_READ,
+                    info.getManifestReadMillis(), info.getBundle().length()));
+            List<ServerTarget> serverTargets = this.getServerTargets();
+            if (serverTargets.size() == 1) {
+                this.execute(serverTargets.get(0), infos, this.isFailOnError());
+                return;
+            }
+            this.fanOut(serverTargets, infos);
+        } finally {
+            this.reportMetrics();
+        }
+    }
+
+    private void reportMetrics() {
+        if (this.metricsSummary) {
+            this.metrics.logSummary(this.getLog());
+        }
+        if (!this.metricsEnabled) {
+            return;
+        }
         try {
-            BundleInfo info = new BundleInfo(new File(this.bundleFileName));
-            // First login, then while installing bundle, HttpClient will pass the JSESSIONID received
-            // in the Set-Cookie header in the auth call. if authentication fails, discontinue the further execution.
-            this.initServerHttpSession();
-            if (this.login()) {
-                this.doExecute(info);
+            Path directory = this.metricsDirectory.toPath();
+            this.metrics.writeJson(directory.resolve(DeployMetrics.REPORT_NAME + ".json"));
+            this.metrics.writeCsv(directory.resolve(DeployMetrics.REPORT_NAME + ".csv"));
+            this.metrics.appendCsv(this.metricsHistory.toPath(), METRICS_HISTORY_MAX_ROWS);
+            this.getLog().debug("Deploy metrics written to " + directory + " and appended to " + this.metricsHistory);
+        } catch (IOException ex) {
+            this.getLog().warn("Couldn't write deploy metrics!!", ex);
+        }
+    }
+
+    private void execute(ServerTarget target, List<BundleInfo> infos, boolean failOnError)
+            throws MojoExecutionException {
+        // if authentication fails, discontinue the further execution.
+        try (ConsoleSession session = new ConsoleSession(this, target, failOnError)) {
+            if (session.open()) {
+                this.doExecute(session, infos);
             } else {
-                this.handleLoginFailure();
+                this.handleLoginFailure(session);
             }
         } catch (IOException | IllegalArgumentException ex) {
             this.handleException(ex);
-        } finally {
-            this.logout();
-            this.closeHttpClient();
         }
     }
 
-    URI getFullUri(String url) {
-        if (!Strings.CS.startsWith(url, "/")) {
-            url = "/" + url;
+    private void fanOut(List<ServerTarget> serverTargets, List<BundleInfo> infos) throws MojoExecutionException {
+        this.getLog().info(String.format("Executing on %d targets with strategy [%s]", serverTargets.size(),
+                this.deployStrategy));
+        long startTime = System.nanoTime();
+        List<List<ServerTarget>> batches = this.getBatches(serverTargets);
+        List<BundleResult> results = new ArrayList<>();
+        try {
+            this.deploy(batches, infos, results);
+        } catch (IOException | RuntimeException ex) {
+            this.handleException(ex);
+            return;
+        }
+        BundleMojoUtil.logResults(this.getLog(), "deployment", results, BundleMojoUtil.elapsedMillis(startTime));
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        if (failed == 0) {
+            return;
+        }
+        String message = String.format("Deployment failed on %d of %d targets, see the summary above!!", failed,
+                serverTargets.size());
+        if (this.isFailOnError()) {
+            throw new MojoExecutionException(message);
         }
-        URI uri = URI.create(this.baseUrl + url);
-        this.getLog().debug("URI to hit: " + uri);
-        return uri;
+        this.getLog().error(message);
     }
 
-    private void initServerHttpSession() throws IOException {
-        if (Strings.CI.equals(this.serverAdapter, RT_ADAPTER_TOMCAT)) {
-            HttpGet request = new HttpGet(this.getFullUri(this.consoleUrl));
-            ClientResponse response = this.httpClient.execute(request, this.responseHandler);
-            if (response.isOk()) {
-                this.getLog().debug("Invoked /system/console so that server HttpSession is initialized!");
+    /**
+     * Deploys to the targets batch by batch, concurrently within a batch, and stops after the first failed batch
+     * unless deploying to all at once.
+     */
+    private void deploy(List<List<ServerTarget>> batches, List<BundleInfo> infos, List<BundleResult> results)
+            throws IOException, MojoExecutionException {
+        String abortedBy = null;
+        for (List<ServerTarget> batch : batches) {
+            if (abortedBy != null) {
+                // Never deployed to, hence failed as far as the summary and the failure count are concerned.
+                String reason = "Aborted after failure on [" + abortedBy + "]";
+                batch.forEach(target -> results.add(BundleResult.failed(target.getBaseUrl(), reason, 0)));
+                continue;
+            }
+            // A target listed twice is deployed to one after the other, never concurrently.
+            try (TaskEngine engine = new TaskEngine(1)) {
+                List<Future<BundleResult>> futures = new ArrayList<>();
+                for (ServerTarget target : batch) {
+                    futures.add(engine.fork(target.getBaseUrl(), () -> this.deploy(target, infos)));
+                }
+                engine.join();
+                for (Future<BundleResult> future : futures) {
+                    BundleResult result = future.resultNow();
+                    results.add(result);
+                    if (abortedBy == null && !result.isSuccess()
+                            && this.deployStrategy != DeployStrategy.ALL_AT_ONCE) {
+                        abortedBy = result.getBundle();
+                    }
+                }
             }
         }
     }
 
-    boolean login() throws IOException {
-        HttpPost request = new HttpPost(this.getFullUri(this.loginUrl));
-        List<NameValuePair> form = new ArrayList<>();
-        form.add(new BasicNameValuePair(J_USERNAME, this.user));
-        form.add(new BasicNameValuePair(J_PASSWORD, this.password));
-        request.setEntity(HttpEntities.createUrlEncoded(form, UTF_8));
-        ClientResponse response = this.httpClient.execute(request, this.responseHandler);
-        this.getLog().debug("Login status code: " + response.getCode());
-        this.loginSucceeded = this.cookieStore.getCookies()
-                .stream()
-                .anyMatch(cookie -> Strings.CS.startsWith(cookie.getName(), COOKIE_JSESSIONID));
-        return this.loginSucceeded;
+    private BundleResult deploy(ServerTarget target, List<BundleInfo> infos) {
+        long startTime = System.nanoTime();
+        try {
+            // Failures are always raised per target so that they show up in the summary, failOnError is decided later.
+            this.execute(target, infos, true);
+            return BundleResult.success(target.getBaseUrl(), "Completed", BundleMojoUtil.elapsedMillis(startTime));
+        } catch (MojoExecutionException ex) {
+            return BundleResult.failed(target.getBaseUrl(), ex, BundleMojoUtil.elapsedMillis(startTime));
+        }
     }
 
-    void logout() {
-        if (this.loginSucceeded) {
-            this.getLog().debug("Invoking Logout!!");
-            try {
-                HttpGet request = new HttpGet(this.getFullUri(this.logoutUrl));
-                ClientResponse response = this.httpClient.execute(request, this.responseHandler);
-                this.getLog().debug("Logout status code: " + response.getCode());
-                this.getLog().debug("Logout successful!!");
-                this.cookieStore.clear();
-            } catch (IOException ex) {
-                this.getLog().error(ex);
+    private List<List<ServerTarget>> getBatches(List<ServerTarget> serverTargets) {
+        return switch (this.deployStrategy) {
+            case ALL_AT_ONCE -> List.of(serverTargets);
+            case CANARY -> List.of(serverTargets.subList(0, 1), serverTargets.subList(1, serverTargets.size()));
+            case ROLLING -> {
+                int batchSize = Math.max(1, this.deployBatchSize);
+                List<List<ServerTarget>> batches = new ArrayList<>();
+                for (int index = 0; index < serverTargets.size(); index += batchSize) {
+                    batches.add(serverTargets.subList(index, Math.min(index + batchSize, serverTargets.size())));
+                }
+                yield batches;
             }
+        };
+    }
+
+    List<ServerTarget> getServerTargets() {
+        if (this.targets != null && !this.targets.isEmpty()) {
+            for (ServerTarget target : this.targets) {
+                Validate.isTrue(StringUtils.isNotEmpty(target.getBaseUrl()), "Target baseUrl is null!!");
+            }
+            return this.targets;
+        }
+        if (this.baseUrls != null && !this.baseUrls.isEmpty()) {
+            return this.baseUrls.stream()
+                    .filter(StringUtils::isNotBlank)
+                    .map(url -> new ServerTarget(url.trim(), this.user, this.password, this.serverAdapter))
+                    .toList();
         }
+        return List.of(new ServerTarget(this.baseUrl, this.user, this.password, this.serverAdapter));
     }
 
-    void closeHttpClient() {
+    /**
+     * Refreshes the packages once, after a batch of installs or uninstalls, and waits for the framework to settle.
+     *
+     * @return true if the packages were refreshed.
+     */
+    boolean refreshPackages(ConsoleSession session) throws IOException, MojoExecutionException {
+        long startTime = System.nanoTime();
+        this.getLog().info("Refreshing packages on [" + session + "]");
+        ClientResponse response = session.refreshPackages();
+        if (!response.isOk()) {
+            String message = response.withDiagnostics(String.format(
+                    "Couldn't refresh packages on [%s], reason: [%s], status: [%s]", session,
+                    response.getReasonPhrase(), response.getCode()));
+            if (session.isFailOnError()) {
+                throw new MojoExecutionException(message);
+            }
+            this.getLog().error(message);
+            return false;
+        }
         try {
-            this.cookieStore.clear();
-            this.httpClient.close();
-            this.getLog().debug("HttpClient closed!!");
-        } catch (IOException ex) {
-            this.getLog().error(ex);
+            new ReadinessPoller(this.activeTimeout).awaitSettled(session);
+        } catch (MojoExecutionException ex) {
+            if (session.isFailOnError()) {
+                throw ex;
+            }
+            this.getLog().error(ex.getMessage());
+            return false;
         }
+        this.metrics.record(session.getBaseUrl(), null, PHASE_REFRESH, startTime);
+        this.getLog().info(String.format("Packages refreshed on [%s], framework settled in %d ms", session,
+                BundleMojoUtil.elapsedMillis(startTime)));
+        return true;
+    }
+
+    /**
+     * Whether a failure fails the goal, as per failOnError unless the goal must always fail.
+     */
+    boolean isFailOnError() {
+        return this.failOnError;
     }
 
-    void handleLoginFailure() throws MojoExecutionException {
-        if (this.failOnError) {
-            throw new MojoExecutionException("[Authentication failed, please check credentials!!]");
+    void handleLoginFailure(ConsoleSession session) throws MojoExecutionException {
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException("[Authentication failed on [" + session
+                    + "], please check credentials!!]");
         }
-        this.getLog().error("Authentication failed, please check credentials!!");
+        this.getLog().error("Authentication failed on [" + session + "], please check credentials!!");
     }
 }
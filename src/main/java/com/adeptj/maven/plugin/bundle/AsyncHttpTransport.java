@@ -0,0 +1,237 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.client5.http.ClientProtocolException;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.cookie.CookieStore;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http.nio.support.classic.AbstractClassicEntityProducer;
+import org.apache.hc.core5.http.nio.support.classic.ClassicToAsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.support.classic.ProtocolException;
+import org.apache.hc.core5.http.nio.support.classic.TransportException;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpTransport} backed by the async HttpClient, either HTTP/1.1 with HTTP/2 negotiated via TLS ALPN or
+ * HTTP/2 only, where the login, the uploads and the status polls are all multiplexed over a single connection.
+ * <p>
+ * The classic request entities are streamed to the async client through a pipe fed on a pooled platform thread, and the
+ * responses are streamed to the classic handlers through a bounded buffer, so that a handler reading only a prefix of
+ * the body never has the whole of it accumulated in memory.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class AsyncHttpTransport implements HttpTransport {
+
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    private static final int RESPONSE_BUFFER_SIZE = 8 * 1024;
+
+    private static final long IDLE_THREAD_SECONDS = 60;
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    private final CookieStore cookieStore;
+
+    /**
+     * Whether the client is a warm one, shared by the sessions of the build and not closed along with this transport.
+     */
+    private final boolean warm;
+
+    private final ExecutorService executor;
+
+    AsyncHttpTransport(AbstractBundleMojo mojo, CookieStore cookieStore, boolean http2Only) {
+        HttpConfig config = mojo.getHttpConfig();
+        if (http2Only && HttpClientSupport.getProxy(config) != null) {
+            mojo.getLog().warn("Proxy isn't supported by the HTTP2 transport, connecting directly!!");
+        }
+        this.cookieStore = cookieStore;
+        this.warm = config.isKeepWarm();
+        this.httpClient = this.warm ? HttpClientSupport.getWarmClient((http2Only ? "http2|" : "async|")
+                + config.getKey(), () -> createHttpClient(config, http2Only)) : createHttpClient(config, http2Only);
+        // Not virtual threads, the pipe writer gets pinned while holding the buffer lock on JDK 21 and deadlocks
+        // against the I/O reactor. Bounded by the concurrent requests of the session, the pipes beyond them wait.
+        int maxThreads = config.getMaxConnections();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, IDLE_THREAD_SECONDS,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    private static CloseableHttpAsyncClient createHttpClient(HttpConfig config, boolean http2Only) {
+        ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofSeconds(config.getConnectTimeout()))
+                .setSocketTimeout(Timeout.ofSeconds(config.getSocketTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(config.getKeepAlive()));
+        if (config.getTimeToLive() > 0) {
+            connectionConfig.setTimeToLive(TimeValue.ofSeconds(config.getTimeToLive()));
+        }
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofSeconds(config.getResponseTimeout()))
+                .setConnectionKeepAlive(TimeValue.ofSeconds(config.getKeepAlive()))
+                .build();
+        ClientTlsStrategyBuilder tlsStrategy = ClientTlsStrategyBuilder.create()
+                .setSslContext(HttpClientSupport.getSslContext(config));
+        if (config.getTlsVersions() != null && !config.getTlsVersions().isEmpty()) {
+            tlsStrategy.setTlsVersions(config.getTlsVersions().toArray(String[]::new));
+        }
+        CloseableHttpAsyncClient httpClient;
+        if (http2Only) {
+            httpClient = HttpAsyncClients.customHttp2()
+                    .setDefaultConnectionConfig(connectionConfig.build())
+                    .setDefaultRequestConfig(requestConfig)
+                    .setTlsStrategy(tlsStrategy.buildAsync())
+                    .evictIdleConnections(TimeValue.ofSeconds(config.getKeepAlive()))
+                    .disableRedirectHandling()
+                    .build();
+        } else {
+            HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                    .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                            .setDefaultConnectionConfig(connectionConfig.build())
+                            .setDefaultTlsConfig(TlsConfig.custom()
+                                    .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                                    .build())
+                            .setTlsStrategy(tlsStrategy.buildAsync())
+                            .setMaxConnTotal(config.getMaxConnections())
+                            .setMaxConnPerRoute(config.getMaxConnections())
+                            .build())
+                    .setDefaultRequestConfig(requestConfig)
+                    .evictIdleConnections(TimeValue.ofSeconds(config.getKeepAlive()))
+                    .disableRedirectHandling()
+                    .setProxy(HttpClientSupport.getProxy(config));
+            CredentialsProvider proxyCredentials = HttpClientSupport.getProxyCredentials(config);
+            if (proxyCredentials != null) {
+                builder.setDefaultCredentialsProvider(proxyCredentials);
+            }
+            httpClient = builder.build();
+        }
+        httpClient.start();
+        return httpClient;
+    }
+
+    @Override
+    public <T> T execute(ClassicHttpRequest request, HttpClientResponseHandler<T> handler) throws IOException {
+        // Cookies go with the request context, the client may be a warm one shared by the sessions of the build.
+        HttpClientContext context = HttpClientContext.create();
+        context.setCookieStore(this.cookieStore);
+        // No timeout of its own, the response timeout of the client fails the consumer.
+        ClassicToAsyncResponseConsumer consumer = new ClassicToAsyncResponseConsumer(RESPONSE_BUFFER_SIZE, null);
+        Future<Void> future = this.httpClient.execute(this.toRequestProducer(request), consumer, context, null);
+        boolean handled = false;
+        try {
+            ClassicHttpResponse response = consumer.blockWaiting();
+            T result = handler.handleResponse(response);
+            // Whatever the handler left unread is drained, like the classic client does, for the connection's reuse.
+            EntityUtils.consume(response.getEntity());
+            handled = true;
+            return result;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while executing " + request);
+        } catch (TransportException ex) {
+            // The consumer wraps the failures of the exchange, the original one tells whether to retry.
+            throw (IOException) ex.getCause();
+        } catch (ProtocolException ex) {
+            throw new ClientProtocolException(ex.getCause().getMessage(), ex.getCause());
+        } catch (HttpException ex) {
+            throw new ClientProtocolException(ex.getMessage(), ex);
+        } finally {
+            if (!handled) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private AsyncRequestProducer toRequestProducer(ClassicHttpRequest request) throws IOException {
+        AsyncRequestBuilder builder;
+        try {
+            builder = AsyncRequestBuilder.create(request.getMethod()).setUri(request.getUri());
+        } catch (URISyntaxException ex) {
+            throw new IOException(ex);
+        }
+        for (Header header : request.getHeaders()) {
+            builder.addHeader(header);
+        }
+        HttpEntity entity = request.getEntity();
+        if (entity != null) {
+            if (entity.getContentEncoding() != null) {
+                builder.addHeader(HttpHeaders.CONTENT_ENCODING, entity.getContentEncoding());
+            }
+            builder.setEntity(new ClassicEntityProducer(entity, this.executor));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void close() {
+        if (!this.warm) {
+            this.httpClient.close(CloseMode.GRACEFUL);
+        }
+        this.executor.close();
+    }
+
+    private static final class ClassicEntityProducer extends AbstractClassicEntityProducer {
+
+        private final HttpEntity entity;
+
+        ClassicEntityProducer(HttpEntity entity, ExecutorService executor) {
+            super(PIPE_BUFFER_SIZE, ContentType.parse(entity.getContentType()), executor);
+            this.entity = entity;
+        }
+
+        @Override
+        protected void produceData(ContentType contentType, OutputStream outputStream) throws IOException {
+            this.entity.writeTo(outputStream);
+        }
+    }
+}
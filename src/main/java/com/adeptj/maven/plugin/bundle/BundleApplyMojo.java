@@ -0,0 +1,189 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.adeptj.maven.plugin.bundle.BundleApplyMojo.MOJO_NAME;
+
+/**
+ * Mojo for applying the deployment plan written by the plan goal, exactly as planned, i.e. to the planned AdeptJ
+ * Runtime instances and bundles, in the planned order, without comparing anything again.
+ * <p>
+ * Fails if a bundle to install has been rebuilt since the plan was made, the plan is stale then.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@Mojo(name = MOJO_NAME, aggregator = true)
+class BundleApplyMojo extends BundleInstallMojo {
+
+    static final String MOJO_NAME = "apply";
+
+    @Parameter(property = "adeptj.plan.file", defaultValue = "${project.build.directory}/adeptj-deploy-plan.json")
+    File planFile;
+
+    private DeployPlan plan;
+
+    @Override
+    List<BundleInfo> getBundleInfos() throws IOException, MojoExecutionException {
+        if (!this.planFile.isFile()) {
+            throw new MojoExecutionException("Deployment plan " + this.planFile + " not found, run the plan goal"
+                    + " first!!");
+        }
+        this.plan = DeployPlan.read(this.planFile.toPath());
+        this.getLog().info("Applying the deployment plan " + this.planFile + " made at " + this.plan.getCreated());
+        List<BundleInfo> infos = new ArrayList<>();
+        for (String target : this.plan.getTargets()) {
+            for (DeployPlan.Step step : this.plan.getSteps(target)) {
+                if (isInstall(step)) {
+                    BundleInfo info = BundleInfo.of(new File(step.getFile()));
+                    if (!Strings.CS.equals(info.getDigest(), step.getDigest())) {
+                        throw new MojoExecutionException(String.format("%s has changed since the plan was made,"
+                                + " run the plan goal again!!", step.getFile()));
+                    }
+                    infos.add(info);
+                }
+            }
+        }
+        return infos;
+    }
+
+    /**
+     * The planned targets, with the credentials of the configured ones.
+     */
+    @Override
+    List<ServerTarget> getServerTargets() {
+        List<ServerTarget> configured = super.getServerTargets();
+        return this.plan.getTargets().stream()
+                .map(baseUrl -> configured.stream()
+                        .filter(target -> Strings.CS.equals(StringUtils.removeEnd(target.getBaseUrl(), "/"), baseUrl))
+                        .findFirst()
+                        .orElseGet(() -> new ServerTarget(baseUrl, this.user, this.password, this.serverAdapter)))
+                .toList();
+    }
+
+    @Override
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws IOException, MojoExecutionException {
+        List<DeployPlan.Step> steps = this.plan.getSteps(session.getBaseUrl());
+        long startTime = System.nanoTime();
+        List<BundleResult> results = new ArrayList<>();
+        boolean uninstalled = false;
+        boolean installed = false;
+        for (DeployPlan.Step step : steps) {
+            BundleResult result = this.apply(session, step);
+            results.add(result);
+            uninstalled |= step.getAction() == DeployPlan.Action.UNINSTALL && result.isSuccess();
+            installed |= isInstall(step) && result.isApplied();
+        }
+        // The uninstall never refreshes the packages, nor does the install when the refresh is coalesced.
+        boolean coalesced = installed && this.isRefreshCoalesced();
+        if ((uninstalled && this.refreshPackages || coalesced) && this.refreshPackages(session)
+                && coalesced && this.waitForActive) {
+            this.awaitActive(session, steps, results);
+        }
+        BundleMojoUtil.logResults(this.getLog(), "apply", results, BundleMojoUtil.elapsedMillis(startTime));
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        if (failed == 0) {
+            return;
+        }
+        String message = String.format("Couldn't apply %d of %d steps on [%s], see the summary above!!", failed,
+                steps.size(), session);
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException(message);
+        }
+        this.getLog().error(message);
+    }
+
+    private BundleResult apply(ConsoleSession session, DeployPlan.Step step) {
+        long startTime = System.nanoTime();
+        try {
+            return switch (step.getAction()) {
+                case SKIP -> BundleResult.skipped(step.getSymbolicName(), "unchanged as per plan", 0);
+                case UNINSTALL -> {
+                    this.getLog().info("Uninstalling " + step.getSymbolicName() + " from [" + session + "]");
+                    ClientResponse response = session.uninstall(step.getSymbolicName(),
+                            this.getRetryPolicy(this.uninstallRetry),
+                            () -> session.getRemoteBundle(step.getSymbolicName()) == null);
+                    yield BundleResult.of(step.getSymbolicName(), response, BundleMojoUtil.elapsedMillis(startTime));
+                }
+                case INSTALL, UPDATE -> {
+                    BundleInfo info = BundleInfo.of(new File(step.getFile()));
+                    this.getLog().info("Installing " + info + " on [" + session + "]");
+                    ClientResponse response = this.installBundle(session, info);
+                    if (response.isOk() && this.waitForActive && !this.isRefreshCoalesced()) {
+                        long activeMillis = this.awaitActive(session, info);
+                        yield BundleResult.of(info.getSymbolicName(), response, "active in " + activeMillis + " ms",
+                                BundleMojoUtil.elapsedMillis(startTime));
+                    }
+                    yield BundleResult.of(info.getSymbolicName(), response, BundleMojoUtil.elapsedMillis(startTime));
+                }
+            };
+        } catch (IOException | MojoExecutionException ex) {
+            this.getLog().debug(ex);
+            return BundleResult.failed(step.getSymbolicName(), ex, BundleMojoUtil.elapsedMillis(startTime));
+        }
+    }
+
+    /**
+     * Waits for the installed bundles to become active after the coalesced refresh, the results are updated in place.
+     */
+    private void awaitActive(ConsoleSession session, List<DeployPlan.Step> steps, List<BundleResult> results)
+            throws IOException {
+        for (int index = 0; index < steps.size(); index++) {
+            if (isInstall(steps.get(index)) && results.get(index).isApplied()) {
+                results.set(index, this.awaitActive(session, steps.get(index), results.get(index)));
+            }
+        }
+    }
+
+    private BundleResult awaitActive(ConsoleSession session, DeployPlan.Step step, BundleResult result)
+            throws IOException {
+        try {
+            long activeMillis = this.awaitActive(session, BundleInfo.of(new File(step.getFile())));
+            return BundleResult.success(step.getSymbolicName(), result.getStatus() + ", active in " + activeMillis
+                    + " ms", result.getElapsedMillis() + activeMillis);
+        } catch (MojoExecutionException ex) {
+            return BundleResult.failed(step.getSymbolicName(), ex, result.getElapsedMillis());
+        }
+    }
+
+    private static boolean isInstall(DeployPlan.Step step) {
+        return step.getAction() == DeployPlan.Action.INSTALL || step.getAction() == DeployPlan.Action.UPDATE;
+    }
+
+    @Override
+    boolean isRefreshCoalesced() {
+        return this.coalesceRefresh && this.refreshPackages;
+    }
+
+    @Override
+    void handleException(Exception ex) throws MojoExecutionException {
+        BundleMojoUtil.doHandleException(this.getLog(), ex, "apply", this.consoleUrl);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * CRC and size of every entry of a bundle jar, as collected by {@link BundleInfo}.
+ * <p>
+ * The index of the last installed version of a bundle is persisted per AdeptJ base url and bundle symbolic name and
+ * compared against the current jar for the delta upload, which ships only the added and modified entries.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class BundleEntryIndex {
+
+    private static final String KEY_DIGEST = "digest";
+
+    private static final String ENTRY_PREFIX = "entry.";
+
+    private final String digest;
+
+    private final Map<String, String> entries;
+
+    BundleEntryIndex(String digest, Map<String, String> entries) {
+        this.digest = digest;
+        this.entries = entries;
+    }
+
+    static BundleEntryIndex of(BundleInfo info) throws IOException {
+        return new BundleEntryIndex(info.getDigest(), info.getEntries());
+    }
+
+    /**
+     * Loads the index persisted in given file, null if there is none.
+     */
+    static BundleEntryIndex load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream stream = Files.newInputStream(file)) {
+            properties.load(stream);
+        }
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(ENTRY_PREFIX)) {
+                entries.put(key.substring(ENTRY_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        return new BundleEntryIndex(properties.getProperty(KEY_DIGEST), entries);
+    }
+
+    void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_DIGEST, this.digest);
+        this.entries.forEach((name, value) -> properties.setProperty(ENTRY_PREFIX + name, value));
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "bundle-index", ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp)) {
+            properties.store(stream, "AdeptJ Maven Plugin bundle entry index");
+        }
+        Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * File, in given directory, of the index of the bundle installed on given AdeptJ instance.
+     */
+    static Path getFile(Path directory, String baseUrl, String symbolicName) {
+        byte[] key = (baseUrl + "|" + symbolicName).getBytes(UTF_8);
+        return directory.resolve(HexFormat.of().formatHex(BundleMojoUtil.newMessageDigest().digest(key))
+                + ".properties");
+    }
+
+    String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Entries added or modified since the base index.
+     */
+    List<String> getChanged(BundleEntryIndex base) {
+        List<String> changed = new ArrayList<>();
+        this.entries.forEach((name, value) -> {
+            if (!value.equals(base.entries.get(name))) {
+                changed.add(name);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * Entries removed since the base index.
+     */
+    List<String> getRemoved(BundleEntryIndex base) {
+        return base.entries.keySet()
+                .stream()
+                .filter(name -> !this.entries.containsKey(name))
+                .toList();
+    }
+
+    /**
+     * Writes the given entries of the bundle jar to a patch archive.
+     */
+    static void writePatch(File bundle, Collection<String> names, Path patch) throws IOException {
+        try (JarFile jar = new JarFile(bundle, false);
+             ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(patch))) {
+            for (String name : names) {
+                ZipEntry source = jar.getEntry(name);
+                ZipEntry entry = new ZipEntry(name);
+                entry.setTime(source.getTime());
+                out.putNextEntry(entry);
+                if (!source.isDirectory()) {
+                    try (InputStream stream = jar.getInputStream(source)) {
+                        stream.transferTo(out);
+                    }
+                }
+                out.closeEntry();
+            }
+        }
+    }
+}
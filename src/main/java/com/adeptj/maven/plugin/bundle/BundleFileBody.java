@@ -0,0 +1,134 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.client5.http.entity.mime.AbstractContentBody;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Multipart body streaming the bundle file in large chunks while periodically logging the bytes sent and throughput.
+ * <p>
+ * The file is read via a {@link FileChannel} into a single reusable buffer and every chunk is handed over to the
+ * HttpClient's content stream with one write call, which keeps the per chunk overhead negligible for fat bundles.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class BundleFileBody extends AbstractContentBody {
+
+    private static final double BYTES_PER_MIB = 1024 * 1024;
+
+    private final File file;
+
+    private final String filename;
+
+    private final int bufferSize;
+
+    private final long progressIntervalNanos;
+
+    private final Log log;
+
+    private volatile long sentBytes;
+
+    private volatile long uploadNanos;
+
+    BundleFileBody(File file, int bufferSize, int progressIntervalSeconds, Log log) {
+        this(file, file.getName(), bufferSize, progressIntervalSeconds, log);
+    }
+
+    /**
+     * Body of given file sent under given name, e.g. the one of the original jar when an optimized one is uploaded.
+     */
+    BundleFileBody(File file, String filename, int bufferSize, int progressIntervalSeconds, Log log) {
+        super(ContentType.DEFAULT_BINARY);
+        this.file = file;
+        this.filename = filename;
+        this.bufferSize = bufferSize;
+        this.progressIntervalNanos = TimeUnit.SECONDS.toNanos(progressIntervalSeconds);
+        this.log = log;
+    }
+
+    @Override
+    public String getFilename() {
+        return this.filename;
+    }
+
+    @Override
+    public long getContentLength() {
+        return this.file.length();
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        long total = this.getContentLength();
+        long sent = 0;
+        long startTime = System.nanoTime();
+        long lastReportTime = startTime;
+        ByteBuffer buffer = ByteBuffer.allocate(this.bufferSize);
+        try (FileChannel channel = FileChannel.open(this.file.toPath(), READ)) {
+            int read;
+            while ((read = channel.read(buffer)) != -1) {
+                out.write(buffer.array(), 0, read);
+                buffer.clear();
+                sent += read;
+                long now = System.nanoTime();
+                if (this.progressIntervalNanos > 0 && now - lastReportTime >= this.progressIntervalNanos) {
+                    lastReportTime = now;
+                    this.log.info(String.format("Uploading %s: %.1f of %.1f MiB (%d%%) at %.2f MiB/s",
+                            this.getFilename(), sent / BYTES_PER_MIB, total / BYTES_PER_MIB,
+                            total == 0 ? 100 : sent * 100 / total, throughput(sent, now - startTime)));
+                }
+            }
+        }
+        out.flush();
+        long elapsedNanos = System.nanoTime() - startTime;
+        this.sentBytes = sent;
+        this.uploadNanos = elapsedNanos;
+        this.log.debug(String.format("Uploaded %s: %.1f MiB in %d ms at %.2f MiB/s", this.getFilename(),
+                sent / BYTES_PER_MIB, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(sent, elapsedNanos)));
+    }
+
+    /**
+     * Bytes sent by the last {@link #writeTo(OutputStream)}.
+     */
+    long getSentBytes() {
+        return this.sentBytes;
+    }
+
+    /**
+     * Time taken, in nanoseconds, by the last {@link #writeTo(OutputStream)}.
+     */
+    long getUploadNanos() {
+        return this.uploadNanos;
+    }
+
+    private static double throughput(long bytes, long elapsedNanos) {
+        return elapsedNanos == 0 ? 0 : (bytes / BYTES_PER_MIB) / (elapsedNanos / 1_000_000_000.0);
+    }
+}
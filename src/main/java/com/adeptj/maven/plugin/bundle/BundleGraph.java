@@ -0,0 +1,131 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of the bundles to be installed together. A bundle depends on the bundles exporting the packages it
+ * imports, as per Import-Package and Export-Package, and a fragment on its host, as per Fragment-Host.
+ * <p>
+ * The bundles are split in layers, each bundle coming after all the bundles it depends on, so that the bundles of a
+ * layer are independent of each other and can be installed concurrently.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class BundleGraph {
+
+    private static final String ATTR_BUNDLE_VERSION = "bundle-version";
+
+    private final List<List<BundleInfo>> layers;
+
+    private final Map<BundleInfo, Set<BundleInfo>> dependencies;
+
+    private final List<BundleInfo> cyclic;
+
+    private BundleGraph(List<List<BundleInfo>> layers, Map<BundleInfo, Set<BundleInfo>> dependencies,
+                        List<BundleInfo> cyclic) {
+        this.layers = layers;
+        this.dependencies = dependencies;
+        this.cyclic = cyclic;
+    }
+
+    static BundleGraph of(List<BundleInfo> infos) {
+        Map<String, Map<BundleInfo, OsgiVersion>> exports = new HashMap<>();
+        for (BundleInfo info : infos) {
+            for (ManifestClause clause : ManifestClause.parse(info.getExportPackage())) {
+                OsgiVersion version = OsgiVersion.parse(PackageIndex.getVersion(clause));
+                clause.getPaths().forEach(name -> exports.computeIfAbsent(name, key -> new HashMap<>())
+                        .put(info, version));
+            }
+        }
+        Map<BundleInfo, Set<BundleInfo>> dependencies = new HashMap<>();
+        for (BundleInfo info : infos) {
+            Set<BundleInfo> requires = new LinkedHashSet<>();
+            for (ManifestClause clause : ManifestClause.parse(info.getImportPackage())) {
+                VersionRange range = VersionRange.parse(PackageIndex.getVersion(clause));
+                for (String name : clause.getPaths()) {
+                    exports.getOrDefault(name, Map.of()).forEach((exporter, version) -> {
+                        if (range.includes(version)) {
+                            requires.add(exporter);
+                        }
+                    });
+                }
+            }
+            for (ManifestClause clause : ManifestClause.parse(info.getFragmentHost())) {
+                VersionRange range = VersionRange.parse(clause.getAttribute(ATTR_BUNDLE_VERSION));
+                for (BundleInfo host : infos) {
+                    if (clause.getPaths().contains(host.getSymbolicName())
+                            && range.includes(OsgiVersion.parse(host.getBundleVersion()))) {
+                        requires.add(host);
+                    }
+                }
+            }
+            // A bundle may well import the packages it exports.
+            requires.remove(info);
+            dependencies.put(info, requires);
+        }
+        List<List<BundleInfo>> layers = new ArrayList<>();
+        List<BundleInfo> pending = new ArrayList<>(infos);
+        Set<BundleInfo> placed = new LinkedHashSet<>();
+        while (!pending.isEmpty()) {
+            List<BundleInfo> layer = pending.stream()
+                    .filter(info -> placed.containsAll(dependencies.get(info)))
+                    .toList();
+            if (layer.isEmpty()) {
+                break;
+            }
+            layers.add(layer);
+            placed.addAll(layer);
+            pending.removeAll(layer);
+        }
+        // What is left depends, directly or not, on itself, and is installed last with no particular order.
+        if (!pending.isEmpty()) {
+            layers.add(List.copyOf(pending));
+        }
+        return new BundleGraph(layers, dependencies, List.copyOf(pending));
+    }
+
+    /**
+     * Layers of the bundles in install order, the bundles of a layer keep the order they were given in.
+     */
+    List<List<BundleInfo>> getLayers() {
+        return layers;
+    }
+
+    /**
+     * Bundles, of the same graph, which given bundle depends on.
+     */
+    Set<BundleInfo> getDependencies(BundleInfo info) {
+        return this.dependencies.getOrDefault(info, Set.of());
+    }
+
+    /**
+     * Bundles in a dependency cycle, or depending on one, which make up the last layer.
+     */
+    List<BundleInfo> getCyclic() {
+        return cyclic;
+    }
+}
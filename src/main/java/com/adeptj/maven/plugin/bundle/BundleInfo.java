@@ -24,32 +24,78 @@ import org.apache.commons.lang3.Validate;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 import static com.adeptj.maven.plugin.bundle.Constants.BUNDLE_NAME;
 import static com.adeptj.maven.plugin.bundle.Constants.BUNDLE_SYMBOLIC_NAME;
 import static com.adeptj.maven.plugin.bundle.Constants.BUNDLE_VERSION;
+import static com.adeptj.maven.plugin.bundle.Constants.EXPORT_PACKAGE;
+import static com.adeptj.maven.plugin.bundle.Constants.FRAGMENT_HOST;
+import static com.adeptj.maven.plugin.bundle.Constants.IMPORT_PACKAGE;
+import static com.adeptj.maven.plugin.bundle.Constants.REQUIRE_CAPABILITY;
 
 /**
  * A simple Bundle information holder.
+ * <p>
+ * The manifest headers are read upfront, from the manifest entry only. The digest and the entries, which need the
+ * whole jar, are computed lazily in a single streaming pass. Instances are cached per jar path, size and last
+ * modification time, so a jar is read only once however many goals, bundles lists or targets refer to it.
  *
  * @author Rakesh.Kumar, AdeptJ
  */
 class BundleInfo {
 
+    private static final Map<String, BundleInfo> CACHE = new ConcurrentHashMap<>();
+
     private final File bundle;
 
+    private final long lastModified;
+
+    private final long length;
+
     private final String bundleName;
 
     private final String symbolicName;
 
     private final String bundleVersion;
 
-    BundleInfo(File bundle) throws IOException {
+    private final String importPackage;
+
+    private final String exportPackage;
+
+    private final String requireCapability;
+
+    private final String fragmentHost;
+
+    private final long manifestReadMillis;
+
+    private String digest;
+
+    private Map<String, String> entries;
+
+    private BundleInfo(File bundle) throws IOException {
+        long startTime = System.nanoTime();
+        this.lastModified = bundle.lastModified();
+        this.length = bundle.length();
         try (JarFile bundleArchive = new JarFile(bundle)) {
             Manifest manifest = bundleArchive.getManifest();
+            Validate.isTrue(manifest != null, "Artifact is not a Bundle!!");
             Attributes mainAttributes = manifest.getMainAttributes();
             String bundleName = mainAttributes.getValue(BUNDLE_NAME);
             String symbolicName = mainAttributes.getValue(BUNDLE_SYMBOLIC_NAME);
@@ -58,9 +104,29 @@ class BundleInfo {
             String bundleVersion = mainAttributes.getValue(BUNDLE_VERSION);
             this.bundle = bundle;
             this.bundleName = bundleName;
-            this.symbolicName = symbolicName;
+            // Strip the directives, e.g. singleton:=true
+            this.symbolicName = StringUtils.substringBefore(symbolicName, ";").trim();
             this.bundleVersion = bundleVersion;
+            this.importPackage = mainAttributes.getValue(IMPORT_PACKAGE);
+            this.exportPackage = mainAttributes.getValue(EXPORT_PACKAGE);
+            this.requireCapability = mainAttributes.getValue(REQUIRE_CAPABILITY);
+            this.fragmentHost = mainAttributes.getValue(FRAGMENT_HOST);
         }
+        this.manifestReadMillis = BundleMojoUtil.elapsedMillis(startTime);
+    }
+
+    /**
+     * Returns the cached info of given bundle jar, if it hasn't changed since, otherwise reads it afresh.
+     */
+    static BundleInfo of(File bundle) throws IOException {
+        String key = bundle.getAbsolutePath();
+        BundleInfo info = CACHE.get(key);
+        if (info != null && info.lastModified == bundle.lastModified() && info.length == bundle.length()) {
+            return info;
+        }
+        info = new BundleInfo(bundle);
+        CACHE.put(key, info);
+        return info;
     }
 
     public File getBundle() {
@@ -71,6 +137,93 @@ class BundleInfo {
         return this.symbolicName;
     }
 
+    String getBundleVersion() {
+        return this.bundleVersion;
+    }
+
+    String getImportPackage() {
+        return this.importPackage;
+    }
+
+    String getExportPackage() {
+        return this.exportPackage;
+    }
+
+    String getRequireCapability() {
+        return this.requireCapability;
+    }
+
+    String getFragmentHost() {
+        return this.fragmentHost;
+    }
+
+    boolean isFragment() {
+        return this.fragmentHost != null;
+    }
+
+    long getManifestReadMillis() {
+        return this.manifestReadMillis;
+    }
+
+    String getDigest() throws IOException {
+        this.index();
+        return this.digest;
+    }
+
+    int getEntryCount() throws IOException {
+        this.index();
+        return this.entries.size();
+    }
+
+    /**
+     * CRC and size, as {@code crc:size}, of every entry of the jar keyed by entry name.
+     */
+    Map<String, String> getEntries() throws IOException {
+        this.index();
+        return this.entries;
+    }
+
+    /**
+     * Digests the jar while streaming through its entries, the bytes past the last entry (central directory) are
+     * digested too so that the digest is the one of the whole file.
+     * <p>
+     * A jar which can't be streamed, e.g. with a STORED entry followed by a data descriptor, is indexed from its
+     * central directory instead, at the cost of a second read for the digest.
+     */
+    private synchronized void index() throws IOException {
+        if (this.digest != null) {
+            return;
+        }
+        MessageDigest messageDigest = BundleMojoUtil.newMessageDigest();
+        Map<String, String> jarEntries = new LinkedHashMap<>();
+        try (InputStream stream = new DigestInputStream(Files.newInputStream(this.bundle.toPath()), messageDigest);
+             ZipInputStream zip = new ZipInputStream(stream)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                zip.transferTo(OutputStream.nullOutputStream());
+                // CRC and size are known only once the entry is read when they follow the data (data descriptor).
+                jarEntries.put(entry.getName(), toIndexValue(entry));
+            }
+            stream.transferTo(OutputStream.nullOutputStream());
+        } catch (ZipException ex) {
+            messageDigest.reset();
+            jarEntries.clear();
+            try (ZipFile zip = new ZipFile(this.bundle)) {
+                zip.stream().forEach(entry -> jarEntries.put(entry.getName(), toIndexValue(entry)));
+            }
+            try (InputStream stream = new DigestInputStream(Files.newInputStream(this.bundle.toPath()),
+                    messageDigest)) {
+                stream.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+        this.entries = Collections.unmodifiableMap(jarEntries);
+        this.digest = HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static String toIndexValue(ZipEntry entry) {
+        return Long.toHexString(entry.getCrc()) + ":" + entry.getSize();
+    }
+
     @Override
     public String toString() {
         return "Bundle [" + this.bundleName + " (" + this.symbolicName + ")," + " version: " + this.bundleVersion + "]";
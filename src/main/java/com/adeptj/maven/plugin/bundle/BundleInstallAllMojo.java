@@ -0,0 +1,238 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static com.adeptj.maven.plugin.bundle.BundleInstallAllMojo.MOJO_NAME;
+import static com.adeptj.maven.plugin.bundle.Constants.VALUE_FALSE;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_LAYER;
+
+/**
+ * Mojo for installing all the OSGi Bundles of the reactor to running AdeptJ Runtime instance.
+ * <p>
+ * Logs in only once and uploads the bundles concurrently over a pooled HttpClient, the degree of concurrency
+ * is controlled by {@link #parallelism}. With {@link #orderedInstall} the bundles are installed layer by layer as per
+ * their dependencies and start levels.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@Mojo(name = MOJO_NAME, aggregator = true)
+class BundleInstallAllMojo extends BundleInstallMojo {
+
+    static final String MOJO_NAME = "install-all";
+
+    @Parameter(property = "adeptj.parallelism", defaultValue = "4", required = true)
+    int parallelism;
+
+    /**
+     * Install the bundles in dependency order instead of all at once: start level by start level, each one in the
+     * layers of its {@link BundleGraph}, a bundle whose dependency failed, on whichever start level, isn't installed
+     * at all.
+     */
+    @Parameter(property = "adeptj.install.ordered", defaultValue = VALUE_FALSE)
+    boolean orderedInstall;
+
+    @Override
+    int getMaxConnections() {
+        return Math.max(1, this.parallelism);
+    }
+
+    @Override
+    boolean isRefreshCoalesced() {
+        return this.coalesceRefresh && this.refreshPackages;
+    }
+
+    @Override
+    List<BundleInfo> getBundleInfos() throws IOException {
+        return this.getReactorBundles();
+    }
+
+    @Override
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws IOException, MojoExecutionException {
+        if (infos.isEmpty()) {
+            this.getLog().warn("No bundles found in the reactor, nothing to install!!");
+            return;
+        }
+        if (this.preflight) {
+            infos = this.preflightCheck.resolve(session, infos);
+        }
+        this.getLog().info(String.format("Installing %d bundles on [%s] with parallelism [%d]", infos.size(), session,
+                this.getMaxConnections()));
+        long startTime = System.nanoTime();
+        List<BundleResult> results;
+        try (TaskEngine engine = new TaskEngine(this.getMaxConnections())) {
+            results = this.orderedInstall ? this.installOrdered(session, infos, engine)
+                    : this.install(session, infos, engine);
+            if (this.isRefreshDue(results) && this.refreshPackages(session) && this.waitForActive) {
+                this.awaitActive(session, infos, results, engine);
+            }
+        }
+        BundleMojoUtil.logResults(this.getLog(), "install", results,
+                BundleMojoUtil.elapsedMillis(startTime));
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        if (failed == 0) {
+            this.getLog().info("Bundles installed successfully, please check AdeptJ OSGi Web Console"
+                    + " [" + this.consoleUrl + "/bundles" + "]");
+            return;
+        }
+        String message = String.format("Couldn't install %d of %d bundles on [%s], see the summary above!!", failed,
+                infos.size(), session);
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException(message);
+        }
+        this.getLog().error(message);
+    }
+
+    private List<BundleResult> install(ConsoleSession session, List<BundleInfo> infos, TaskEngine engine)
+            throws IOException, MojoExecutionException {
+        List<Future<BundleResult>> futures = new ArrayList<>();
+        for (BundleInfo info : infos) {
+            futures.add(engine.fork(session.getBaseUrl(), () -> this.install(session, info)));
+        }
+        engine.join();
+        return futures.stream()
+                .map(Future::resultNow)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Installs the bundles start level by start level, each one in the layers of its {@link BundleGraph}. A layer is
+     * installed concurrently once the previous one is done. The dependencies are the ones of the graph of all the
+     * bundles, so that a bundle whose dependency failed isn't installed at all, even on a later start level.
+     *
+     * @return the results in the order of given bundles.
+     */
+    private List<BundleResult> installOrdered(ConsoleSession session, List<BundleInfo> infos, TaskEngine engine)
+            throws IOException, MojoExecutionException {
+        Map<Integer, List<BundleInfo>> levels = new TreeMap<>();
+        for (BundleInfo info : infos) {
+            levels.computeIfAbsent(Integer.parseInt(this.getStartLevel(info)), key -> new ArrayList<>()).add(info);
+        }
+        BundleGraph dependencies = BundleGraph.of(infos);
+        Map<BundleInfo, BundleResult> installed = new HashMap<>();
+        for (Map.Entry<Integer, List<BundleInfo>> level : levels.entrySet()) {
+            BundleGraph graph = BundleGraph.of(level.getValue());
+            if (!graph.getCyclic().isEmpty()) {
+                this.getLog().warn("Bundles with cyclic dependencies, installing them last: " + graph.getCyclic());
+            }
+            List<List<BundleInfo>> layers = graph.getLayers();
+            for (int index = 0; index < layers.size(); index++) {
+                long startTime = System.nanoTime();
+                List<BundleInfo> layer = layers.get(index);
+                Map<BundleInfo, Future<BundleResult>> futures = new LinkedHashMap<>();
+                for (BundleInfo info : layer) {
+                    // The dependencies within a cyclic layer, or on a later start level, aren't installed yet.
+                    BundleInfo failed = dependencies.getDependencies(info).stream()
+                            .filter(dependency -> installed.containsKey(dependency)
+                                    && !installed.get(dependency).isSuccess())
+                            .findFirst()
+                            .orElse(null);
+                    if (failed == null) {
+                        futures.put(info, engine.fork(session.getBaseUrl(), () -> this.install(session, info)));
+                    } else {
+                        installed.put(info, BundleResult.failed(info.getSymbolicName(),
+                                "Not installed, dependency " + failed.getSymbolicName() + " failed", 0));
+                    }
+                }
+                engine.join();
+                BundleResult slowest = null;
+                for (Map.Entry<BundleInfo, Future<BundleResult>> future : futures.entrySet()) {
+                    BundleResult result = future.getValue().resultNow();
+                    installed.put(future.getKey(), result);
+                    if (slowest == null || result.getElapsedMillis() > slowest.getElapsedMillis()) {
+                        slowest = result;
+                    }
+                }
+                long elapsedMillis = BundleMojoUtil.elapsedMillis(startTime);
+                String name = "start level " + level.getKey() + ", layer " + (index + 1);
+                this.metrics.record(session.getBaseUrl(), name, PHASE_LAYER, elapsedMillis, 0);
+                this.getLog().info(String.format("Installed %s of %d (%d bundles) in %d ms%s", name, layers.size(),
+                        layer.size(), elapsedMillis, slowest == null ? "" : ", slowest: " + slowest.getBundle()
+                                + " (" + slowest.getElapsedMillis() + " ms)"));
+            }
+        }
+        return infos.stream()
+                .map(installed::get)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    BundleResult install(ConsoleSession session, BundleInfo info) {
+        long startTime = System.nanoTime();
+        try {
+            if (this.isUnchanged(session, info)) {
+                long elapsedMillis = BundleMojoUtil.elapsedMillis(startTime);
+                return BundleResult.skipped(info.getSymbolicName(), "unchanged", elapsedMillis);
+            }
+            this.getLog().info("Installing " + info + " on [" + session + "]");
+            ClientResponse response = this.installBundle(session, info);
+            if (response.isOk() && this.waitForActive && !this.isRefreshCoalesced()) {
+                long activeMillis = this.awaitActive(session, info);
+                return BundleResult.of(info.getSymbolicName(), response, "active in " + activeMillis + " ms",
+                        BundleMojoUtil.elapsedMillis(startTime));
+            }
+            return BundleResult.of(info.getSymbolicName(), response, BundleMojoUtil.elapsedMillis(startTime));
+        } catch (IOException | MojoExecutionException ex) {
+            this.getLog().debug(ex);
+            return BundleResult.failed(info.getSymbolicName(), ex, BundleMojoUtil.elapsedMillis(startTime));
+        }
+    }
+
+    /**
+     * Waits, concurrently, for the installed bundles to become active after the coalesced refresh, the results are
+     * updated in place.
+     */
+    private void awaitActive(ConsoleSession session, List<BundleInfo> infos, List<BundleResult> results,
+                             TaskEngine engine) throws IOException, MojoExecutionException {
+        Map<Integer, Future<BundleResult>> futures = new LinkedHashMap<>();
+        for (int index = 0; index < infos.size(); index++) {
+            BundleResult result = results.get(index);
+            if (result.isApplied()) {
+                BundleInfo info = infos.get(index);
+                futures.put(index, engine.fork(session.getBaseUrl(), () -> this.awaitActive(session, info, result)));
+            }
+        }
+        engine.join();
+        futures.forEach((index, future) -> results.set(index, future.resultNow()));
+    }
+
+    private BundleResult awaitActive(ConsoleSession session, BundleInfo info, BundleResult result)
+            throws IOException {
+        try {
+            long activeMillis = this.awaitActive(session, info);
+            return BundleResult.success(info.getSymbolicName(), result.getStatus() + ", active in " + activeMillis
+                    + " ms", result.getElapsedMillis() + activeMillis);
+        } catch (MojoExecutionException ex) {
+            return BundleResult.failed(info.getSymbolicName(), ex, result.getElapsedMillis());
+        }
+    }
+}
@@ -19,26 +19,22 @@
 */
 package com.adeptj.maven.plugin.bundle;
 
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
-import org.apache.hc.core5.http.HttpEntity;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
 
+import java.io.File;
 import java.io.IOException;
-import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import static com.adeptj.maven.plugin.bundle.BundleInstallMojo.MOJO_NAME;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION_INSTALL_VALUE;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_BUNDLE_FILE;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_PARALLEL_VERSION;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_REFRESH_PACKAGES;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_START;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_START_LEVEL;
-import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_INSTALL;
-import static com.adeptj.maven.plugin.bundle.Constants.VALUE_TRUE;
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static com.adeptj.maven.plugin.bundle.Constants.COMPRESSION_NONE;
+import static com.adeptj.maven.plugin.bundle.Constants.VALUE_FALSE;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.INSTALL;
 
 /**
@@ -51,44 +47,317 @@ class BundleInstallMojo extends AbstractBundleMojo {
 
     static final String MOJO_NAME = "install";
 
+    /**
+     * Skip the install (and hence the packages refresh) of bundles which haven't changed since the last install.
+     */
+    @Parameter(property = "adeptj.bundle.incremental", defaultValue = VALUE_FALSE)
+    boolean incremental;
+
+    @Parameter(property = "adeptj.deploy.state.file", defaultValue = "${user.home}/.adeptj/deploy-state.properties")
+    File deployStateFile;
+
+    @Parameter(property = "adeptj.upload.bufferSize", defaultValue = "262144")
+    int uploadBufferSize;
+
+    /**
+     * Interval, in seconds, of the upload progress logging, 0 disables it.
+     */
+    @Parameter(property = "adeptj.upload.progressInterval", defaultValue = "5")
+    int uploadProgressInterval;
+
+    /**
+     * Compression of the upload request body, one of none, gzip or deflate. Needs the server to decode the request
+     * Content-Encoding, the plain upload is used when the server rejects it or when compression doesn't pay off.
+     */
+    @Parameter(property = "adeptj.upload.compression", defaultValue = COMPRESSION_NONE)
+    String uploadCompression;
+
+    @Parameter(property = "adeptj.upload.compression.level", defaultValue = "6")
+    int compressionLevel;
+
+    /**
+     * Minimum estimated savings, in percent, for compressing the upload.
+     */
+    @Parameter(property = "adeptj.upload.compression.minSavings", defaultValue = "10")
+    int compressionMinSavings;
+
+    /**
+     * Wait, after install, for the bundle to become active and for the {@link #requiredServices} to be registered.
+     */
+    @Parameter(property = "adeptj.bundle.waitForActive", defaultValue = VALUE_FALSE)
+    boolean waitForActive;
+
+    /**
+     * Service types (object classes) which must be registered before the bundle is considered active.
+     */
+    @Parameter(property = "adeptj.bundle.requiredServices")
+    List<String> requiredServices;
+
+    /**
+     * Upload only the jar entries changed since the last install of the bundle, needs the delta install endpoint on
+     * the server which patches the previously installed jar. The full bundle is uploaded when there is no previous
+     * install recorded, when the patch isn't small enough or when the server rejects it. With {@link #optimize}, the
+     * patch is made of the optimized jars, being what the server installs.
+     */
+    @Parameter(property = "adeptj.upload.delta", defaultValue = VALUE_FALSE)
+    boolean deltaUpload;
+
+    /**
+     * Max size of the delta patch, in percent of the bundle size, above which the full bundle is uploaded.
+     */
+    @Parameter(property = "adeptj.upload.delta.maxRatio", defaultValue = "50")
+    int deltaMaxRatio;
+
+    @Parameter(property = "adeptj.upload.delta.indexDirectory", defaultValue = "${user.home}/.adeptj/delta")
+    File deltaIndexDirectory;
+
+    /**
+     * Check, before installing, that the Import-Package of the bundles resolves against the packages exported on the
+     * server and by the bundles of the reactor, and fail fast with the unresolved imports otherwise.
+     */
+    @Parameter(property = "adeptj.preflight", defaultValue = VALUE_FALSE)
+    boolean preflight;
+
+    /**
+     * Time, in seconds, for which the packages exported on the server are cached.
+     */
+    @Parameter(property = "adeptj.preflight.cacheTtl", defaultValue = "300")
+    int preflightCacheTtl;
+
+    @Parameter(property = "adeptj.preflight.cacheDirectory", defaultValue = "${user.home}/.adeptj/exports")
+    File preflightCacheDirectory;
+
+    /**
+     * Install the bundles with refreshPackages disabled and refresh the packages only once after the whole batch,
+     * then wait for the framework to settle. Applies to the install-all, apply and watch goals, the install goal of a
+     * single project refreshes with each install.
+     */
+    @Parameter(property = "adeptj.refresh.coalesce", defaultValue = VALUE_FALSE)
+    boolean coalesceRefresh;
+
+    /**
+     * Upload a deploy optimized rewrite of the bundle jar, without the {@link #optimizeExcludes} and the duplicate
+     * entries and with every entry deflated at {@link #optimizeLevel}. The manifest and signatures are kept intact.
+     * The optimized jars are stored in {@link #optimizeDirectory} under the digest of the jar, so repeated deploys of
+     * the same bytes reuse them.
+     */
+    @Parameter(property = "adeptj.optimize", defaultValue = VALUE_FALSE)
+    boolean optimize;
+
+    /**
+     * Patterns, with the * and ? wildcards, of the jar entries left out of the optimized jar, e.g. {@code *.map}.
+     */
+    @Parameter(property = "adeptj.optimize.excludes")
+    List<String> optimizeExcludes;
+
+    @Parameter(property = "adeptj.optimize.level", defaultValue = "9")
+    int optimizeLevel;
+
+    @Parameter(property = "adeptj.optimize.directory", defaultValue = "${project.build.directory}/adeptj-optimized")
+    File optimizeDirectory;
+
+    /**
+     * Let the AdeptJ instances pull the bundle from {@link #pullRepositoryUrl} rather than uploading it through the
+     * build machine, needs the pull install endpoint on the server. Only the bundle URL and SHA-256 digest, with the
+     * start level and flags, are sent; the server fetches the bundle, checks the digest and installs it, then the
+     * installed bundle is verified. The bundle is uploaded when its URL can't be derived, when the server rejects the
+     * pull or when the verification fails.
+     * <p>
+     * The bundle must have been deployed by then, i.e. the goal bound to the deploy phase after the maven-deploy-plugin
+     * or run after it, e.g. {@code mvn deploy adeptj:install}; bound to its default install phase, the bundle is always
+     * uploaded. A SNAPSHOT is pulled by the timestamped file name listed in the maven-metadata.xml of the snapshot,
+     * which the build machine fetches from {@link #pullRepositoryUrl} as well.
+     */
+    @Parameter(property = "adeptj.pull", defaultValue = VALUE_FALSE)
+    boolean pullInstall;
+
+    /**
+     * Base URL of the Maven repository as reached from the AdeptJ instances, e.g. a mirror on their local network.
+     * The bundles are pulled from their path in the repository layout, so must have been deployed there.
+     */
+    @Parameter(property = "adeptj.pull.repositoryUrl")
+    String pullRepositoryUrl;
+
+    /**
+     * Start levels of individual bundles, keyed by Bundle-SymbolicName, the others get the {@link #startLevel}.
+     */
+    @Parameter
+    Map<String, String> startLevels;
+
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+    List<MavenProject> reactorProjects;
+
+    @Parameter(defaultValue = "${project}", readonly = true)
+    MavenProject project;
+
+    final PreflightCheck preflightCheck = new PreflightCheck(this);
+
+    private final BundleInstaller installer = new BundleInstaller(this);
+
+    private DeployState deployState;
+
+    @Override
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws IOException, MojoExecutionException {
+        List<BundleInfo> resolved = this.preflight ? this.preflightCheck.resolve(session, infos) : infos;
+        super.doExecute(session, resolved);
+    }
+
     @Override
-    void doExecute(BundleInfo info) throws IOException, MojoExecutionException {
-        this.getLog().info("Installing " + info);
-        URI uri = this.getFullUri(String.format(URL_BUNDLE_INSTALL, this.consoleUrl));
-        HttpPost request = new HttpPost(uri);
-        request.setEntity(this.getMultipartEntity(info));
-        ClientResponse response = this.httpClient.execute(request, this.responseHandler);
+    void doExecute(ConsoleSession session, BundleInfo info) throws IOException, MojoExecutionException {
+        if (this.isUnchanged(session, info)) {
+            this.getLog().info(info + " is unchanged since the last install on [" + session + "], skipping!!");
+            return;
+        }
+        this.getLog().info("Installing " + info + " on [" + session + "]");
+        ClientResponse response = this.installBundle(session, info);
         if (response.isOk()) {
             this.getLog().info("Bundle installed successfully, please check AdeptJ OSGi Web Console"
                     + " [" + this.consoleUrl + "/bundles" + "]");
+            if (this.waitForActive && !this.isRefreshCoalesced()) {
+                try {
+                    this.awaitActive(session, info);
+                } catch (MojoExecutionException ex) {
+                    if (session.isFailOnError()) {
+                        throw ex;
+                    }
+                    this.getLog().error(ex.getMessage());
+                }
+            }
             return;
         }
-        if (this.failOnError) {
-            throw new MojoExecutionException(
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException(response.withDiagnostics(
                     String.format("Couldn't install bundle, reason: [%s], status: [%s]",
                             response.getReasonPhrase(),
-                            response.getCode()));
+                            response.getCode())));
+        }
+        this.getLog().error(response.withDiagnostics(
+                "Problem installing bundle, please check AdeptJ OSGi Web Console!!"));
+    }
+
+    ClientResponse installBundle(ConsoleSession session, BundleInfo info) throws IOException {
+        ClientResponse response = this.installer.install(session, info);
+        if (response.isOk()) {
+            session.onInstalled(info.getSymbolicName());
+            // Even when not checking this time, the exports cached by an earlier pre-flight check are stale now.
+            this.preflightCheck.invalidate(session, info.getSymbolicName());
         }
-        this.getLog().error("Problem installing bundle, please check AdeptJ OSGi Web Console!!");
+        if (response.isOk() && this.incremental) {
+            this.recordDeployState(session, info);
+        }
+        return response;
+    }
+
+    /**
+     * Waits for given bundle to become active and for the {@link #requiredServices} to be registered.
+     *
+     * @return the time to active in milliseconds.
+     * @throws MojoExecutionException if the bundle didn't become active within {@link #activeTimeout}.
+     */
+    long awaitActive(ConsoleSession session, BundleInfo info) throws IOException, MojoExecutionException {
+        long activeMillis = new ReadinessPoller(this.activeTimeout).awaitActive(session, info, this.requiredServices);
+        this.getLog().info(String.format("%s is active on [%s], time to active: %d ms", info, session, activeMillis));
+        return activeMillis;
+    }
+
+    /**
+     * Whether the installs leave the packages refresh to a single one after the whole batch, never for the install
+     * goal, which can't tell the end of the batch, but for the goals installing it as a whole.
+     */
+    boolean isRefreshCoalesced() {
+        return false;
+    }
+
+    /**
+     * Whether the coalesced refresh is due after the batch, i.e. at least one of the installs actually went through.
+     */
+    boolean isRefreshDue(List<BundleResult> results) {
+        return this.isRefreshCoalesced() && results.stream().anyMatch(BundleResult::isApplied);
     }
 
-    private HttpEntity getMultipartEntity(BundleInfo info) {
-        MultipartEntityBuilder multipartEntityBuilder = MultipartEntityBuilder.create()
-                .setCharset(UTF_8)
-                .addBinaryBody(PARAM_BUNDLE_FILE, info.getBundle())
-                .addTextBody(PARAM_ACTION, PARAM_ACTION_INSTALL_VALUE)
-                .addTextBody(PARAM_START_LEVEL, startLevel);
-        if (this.startBundle) {
-            multipartEntityBuilder.addTextBody(PARAM_START, VALUE_TRUE);
+    /**
+     * The bundles built by the reactor so far, projects without a bundle artifact are skipped.
+     */
+    List<BundleInfo> getReactorBundles() throws IOException {
+        List<BundleInfo> infos = new ArrayList<>();
+        if (this.reactorProjects == null) {
+            return infos;
         }
-        if (this.refreshPackages) {
-            multipartEntityBuilder.addTextBody(PARAM_REFRESH_PACKAGES, VALUE_TRUE);
+        for (MavenProject project : this.reactorProjects) {
+            File bundle = this.getBundleFile(project);
+            if (bundle == null) {
+                this.getLog().debug("No bundle artifact found for project: " + project.getId());
+                continue;
+            }
+            try {
+                infos.add(BundleInfo.of(bundle));
+            } catch (IllegalArgumentException ex) {
+                this.getLog().debug("Skipping " + bundle + ", cause: " + ex.getMessage());
+            }
         }
-        // Since web console v4.4.0
-        if (this.parallelVersion) {
-            multipartEntityBuilder.addTextBody(PARAM_PARALLEL_VERSION, VALUE_TRUE);
+        return infos;
+    }
+
+    File getBundleFile(MavenProject project) {
+        File file = project.getArtifact() == null ? null : project.getArtifact().getFile();
+        if (file == null || !file.isFile()) {
+            file = new File(project.getBuild().getDirectory(), project.getBuild().getFinalName() + ".jar");
         }
-        return multipartEntityBuilder.build();
+        return file.isFile() ? file : null;
+    }
+
+    /**
+     * A bundle is unchanged when its digest matches the one recorded by the last install and the running framework
+     * still reports the very same version and last modification time, i.e. nobody else touched it meanwhile.
+     */
+    boolean isUnchanged(ConsoleSession session, BundleInfo info) throws IOException {
+        if (!this.incremental || !this.isRecorded(session.getBaseUrl(), info)) {
+            return false;
+        }
+        return this.isUnchanged(session.getBaseUrl(), info, session.getInstalledBundle(info.getSymbolicName()));
+    }
+
+    /**
+     * Whether the deploy state records the last install of given bundle with the same digest.
+     */
+    boolean isRecorded(String baseUrl, BundleInfo info) throws IOException {
+        DeployState.Entry entry = this.getDeployState().get(baseUrl, info.getSymbolicName());
+        return entry != null && Strings.CS.equals(entry.getDigest(), info.getDigest());
+    }
+
+    /**
+     * Same as {@link #isUnchanged(ConsoleSession, BundleInfo)} against an already fetched bundle, irrespective of
+     * {@link #incremental}. Never unchanged when the remote bundle is null, i.e. it isn't installed.
+     */
+    boolean isUnchanged(String baseUrl, BundleInfo info, RemoteBundle remote) throws IOException {
+        DeployState.Entry entry = this.getDeployState().get(baseUrl, info.getSymbolicName());
+        return entry != null
+                && remote != null
+                && Strings.CS.equals(entry.getDigest(), info.getDigest())
+                && Strings.CS.equals(entry.getVersion(), remote.getVersion())
+                && Strings.CS.equals(entry.getLastModified(), remote.getLastModified());
+    }
+
+    private void recordDeployState(ConsoleSession session, BundleInfo info) throws IOException {
+        RemoteBundle remote = session.getInstalledBundle(info.getSymbolicName());
+        if (remote == null) {
+            this.getLog().warn("Couldn't find " + info + " on [" + session + "], deploy state not recorded!!");
+            return;
+        }
+        this.getDeployState().put(session.getBaseUrl(), info.getSymbolicName(),
+                new DeployState.Entry(info.getDigest(), remote.getVersion(), remote.getLastModified()));
+    }
+
+    private synchronized DeployState getDeployState() throws IOException {
+        if (this.deployState == null) {
+            this.deployState = DeployState.load(this.deployStateFile.toPath());
+        }
+        return this.deployState;
+    }
+
+    String getStartLevel(BundleInfo info) {
+        String level = this.startLevels == null ? null : this.startLevels.get(info.getSymbolicName());
+        return StringUtils.isBlank(level) ? this.startLevel : level.trim();
     }
 
     @Override
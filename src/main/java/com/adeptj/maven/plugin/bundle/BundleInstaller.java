@@ -0,0 +1,507 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.NameValuePair;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.HttpEntities;
+import org.apache.hc.core5.http.message.BasicNameValuePair;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.SnapshotVersion;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static com.adeptj.maven.plugin.bundle.Constants.COMPRESSION_DEFLATE;
+import static com.adeptj.maven.plugin.bundle.Constants.COMPRESSION_GZIP;
+import static com.adeptj.maven.plugin.bundle.Constants.COMPRESSION_NONE;
+import static com.adeptj.maven.plugin.bundle.Constants.COMPRESSION_SAMPLE_SIZE;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION_INSTALL_VALUE;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_BASE_DIGEST;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_BUNDLE_DIGEST;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_BUNDLE_FILE;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_BUNDLE_URL;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_PARALLEL_VERSION;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_REFRESH_PACKAGES;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_REMOVED_ENTRIES;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_START;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_START_LEVEL;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_DELTA_INSTALL;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_INSTALL;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_PULL_INSTALL;
+import static com.adeptj.maven.plugin.bundle.Constants.VALUE_TRUE;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_OPTIMIZE;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_PULL;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_SERVER_RESPONSE;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_UPLOAD;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.hc.core5.http.HttpStatus.SC_BAD_REQUEST;
+import static org.apache.hc.core5.http.HttpStatus.SC_METHOD_NOT_ALLOWED;
+import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.hc.core5.http.HttpStatus.SC_NOT_IMPLEMENTED;
+import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+import static org.apache.hc.core5.http.HttpStatus.SC_UNSUPPORTED_MEDIA_TYPE;
+
+/**
+ * Sends a bundle to the AdeptJ instance the way the {@link BundleInstallMojo} is configured for: pulled by the server
+ * from the repository, uploaded as a delta patch or uploaded in full, optimized and compressed or not. Each way falls
+ * back to the next one when it doesn't apply, and one the server doesn't support isn't tried again.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class BundleInstaller {
+
+    private final BundleInstallMojo mojo;
+
+    private volatile boolean compressionUnsupported;
+
+    private volatile boolean deltaUnsupported;
+
+    private volatile boolean pullUnsupported;
+
+    private BundleOptimizer optimizer;
+
+    BundleInstaller(BundleInstallMojo mojo) {
+        this.mojo = mojo;
+    }
+
+    ClientResponse install(ConsoleSession session, BundleInfo info) throws IOException {
+        ClientResponse response = this.mojo.pullInstall ? this.installPull(session, info) : null;
+        // The jar the server installs, the optimized one if uploaded, the delta is computed against its index.
+        BundleInfo installed = response != null || !this.mojo.deltaUpload ? info : this.getUploadInfo(info);
+        if (response == null && this.mojo.deltaUpload) {
+            response = this.installDelta(session, installed);
+        }
+        if (response == null) {
+            response = this.installFull(session, info);
+        }
+        if (response.isOk() && this.mojo.deltaUpload) {
+            BundleEntryIndex.of(installed).store(this.getEntryIndexFile(session, info));
+        }
+        return response;
+    }
+
+    private ClientResponse installFull(ConsoleSession session, BundleInfo info) throws IOException {
+        URI uri = session.getFullUri(String.format(URL_BUNDLE_INSTALL, this.mojo.consoleUrl));
+        File file = this.getUploadFile(info);
+        BundleFileBody body = new BundleFileBody(file, info.getBundle().getName(), this.mojo.uploadBufferSize,
+                this.mojo.uploadProgressInterval, this.getLog());
+        HttpEntity entity = this.getMultipartEntity(info, body);
+        CompressedEntity compressedEntity = this.getCompressedEntity(file, entity);
+        ClientResponse response;
+        if (compressedEntity == null) {
+            response = this.upload(session, uri, entity, info, body);
+        } else {
+            long startTime = System.nanoTime();
+            response = this.upload(session, uri, compressedEntity, info, body);
+            if (response.getCode() == SC_UNSUPPORTED_MEDIA_TYPE || response.getCode() == SC_BAD_REQUEST) {
+                this.getLog().warn("Server rejected the compressed upload, status: [" + response.getCode()
+                        + "], falling back to plain upload!!");
+                this.compressionUnsupported = true;
+                response = this.upload(session, uri, entity, info, body);
+            } else {
+                long raw = compressedEntity.getRawBytes();
+                long compressed = compressedEntity.getCompressedBytes();
+                this.getLog().info(String.format("Compressed (%s) upload of %s: %d -> %d bytes, saved %d%% in %d ms",
+                        this.mojo.uploadCompression, info.getBundle().getName(), raw, compressed,
+                        raw <= 0 ? 0 : (raw - compressed) * 100 / raw, BundleMojoUtil.elapsedMillis(startTime)));
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Uploads the patch of the entries changed since the last install, null if the full bundle is to be uploaded.
+     *
+     * @param info the bundle as uploaded, see {@link #getUploadInfo(BundleInfo)}.
+     */
+    private ClientResponse installDelta(ConsoleSession session, BundleInfo info) throws IOException {
+        if (this.deltaUnsupported) {
+            return null;
+        }
+        BundleEntryIndex base = BundleEntryIndex.load(this.getEntryIndexFile(session, info));
+        if (base == null) {
+            this.getLog().debug("No previous install of " + info + " recorded, uploading the full bundle!!");
+            return null;
+        }
+        BundleEntryIndex current = BundleEntryIndex.of(info);
+        List<String> changed = current.getChanged(base);
+        List<String> removed = current.getRemoved(base);
+        Path patch = Files.createTempFile("adeptj-delta", ".jar");
+        try {
+            BundleEntryIndex.writePatch(info.getBundle(), changed, patch);
+            long patchSize = Files.size(patch);
+            long bundleSize = info.getBundle().length();
+            if (patchSize * 100 > bundleSize * this.mojo.deltaMaxRatio) {
+                this.getLog().debug(String.format("Delta patch of %s is %d of %d bytes, uploading the full bundle!!",
+                        info, patchSize, bundleSize));
+                return null;
+            }
+            this.getLog().info(String.format("Delta upload of %s: %d changed and %d removed entries, %d of %d bytes",
+                    info, changed.size(), removed.size(), patchSize, bundleSize));
+            BundleFileBody body = new BundleFileBody(patch.toFile(), this.mojo.uploadBufferSize,
+                    this.mojo.uploadProgressInterval, this.getLog());
+            HttpEntity entity = this.getMultipartEntityBuilder(info, body)
+                    .addTextBody(PARAM_BASE_DIGEST, base.getDigest())
+                    .addTextBody(PARAM_REMOVED_ENTRIES, String.join("\n", removed))
+                    .build();
+            URI uri = session.getFullUri(String.format(URL_BUNDLE_DELTA_INSTALL, this.mojo.consoleUrl));
+            ClientResponse response = this.upload(session, uri, entity, info, body);
+            if (response.isOk()) {
+                return response;
+            }
+            switch (response.getCode()) {
+                case SC_NOT_FOUND, SC_METHOD_NOT_ALLOWED, SC_NOT_IMPLEMENTED -> {
+                    this.getLog().warn("Server doesn't support the delta upload, status: [" + response.getCode()
+                            + "], falling back to full upload!!");
+                    this.deltaUnsupported = true;
+                }
+                // e.g. the previous version isn't cached on the server anymore.
+                default -> this.getLog().warn(response.withDiagnostics("Server rejected the delta upload of " + info
+                        + ", status: [" + response.getCode() + "]") + ", falling back to full upload!!");
+            }
+            return null;
+        } finally {
+            Files.deleteIfExists(patch);
+        }
+    }
+
+    /**
+     * Lets the server pull the bundle from the repository, null if the bundle is to be uploaded.
+     */
+    private ClientResponse installPull(ConsoleSession session, BundleInfo info) throws IOException {
+        if (this.pullUnsupported) {
+            return null;
+        }
+        String url = this.getPullUrl(session, info);
+        if (url == null) {
+            this.getLog().debug("No repository URL of " + info + " to pull from, uploading the bundle!!");
+            return null;
+        }
+        this.getLog().info("Pulling " + info + " on [" + session + "] from " + url);
+        List<NameValuePair> form = this.getInstallParams(info);
+        form.add(new BasicNameValuePair(PARAM_BUNDLE_URL, url));
+        form.add(new BasicNameValuePair(PARAM_BUNDLE_DIGEST, info.getDigest()));
+        URI uri = session.getFullUri(String.format(URL_BUNDLE_PULL_INSTALL, this.mojo.consoleUrl));
+        HttpPost request = new HttpPost(uri);
+        request.setEntity(HttpEntities.createUrlEncoded(form, UTF_8));
+        RetryPolicy policy = this.mojo.getRetryPolicy(this.mojo.installRetry);
+        RetryPolicy.Check check = this.getReinstalledCheck(session, info, policy);
+        long startTime = System.nanoTime();
+        ClientResponse response = session.execute(request, policy, check);
+        this.mojo.metrics.record(session.getBaseUrl(), info.getSymbolicName(), PHASE_PULL, startTime);
+        if (response.isOk()) {
+            String mismatch = this.verifyPulled(session, info, response);
+            if (mismatch == null) {
+                return response;
+            }
+            this.getLog().warn(mismatch + ", falling back to upload!!");
+            return null;
+        }
+        switch (response.getCode()) {
+            case SC_NOT_FOUND, SC_METHOD_NOT_ALLOWED, SC_NOT_IMPLEMENTED -> {
+                this.getLog().warn("Server doesn't support the pull install, status: [" + response.getCode()
+                        + "], falling back to upload!!");
+                this.pullUnsupported = true;
+            }
+            // e.g. the bundle isn't deployed to the repository or the one deployed has another digest.
+            default -> this.getLog().warn(response.withDiagnostics("Server couldn't pull " + info + ", status: ["
+                    + response.getCode() + "]") + ", falling back to upload!!");
+        }
+        return null;
+    }
+
+    /**
+     * Verifies that the bundle the server pulled and installed is the one built, returns the mismatch if it isn't.
+     */
+    private String verifyPulled(ConsoleSession session, BundleInfo info, ClientResponse response) throws IOException {
+        ClientResponse.ConsoleResult result = response.getResult();
+        if (result != null && result.getDigest() != null && !Strings.CI.equals(result.getDigest(), info.getDigest())) {
+            return String.format("Server pulled %s with digest [%s] rather than [%s]", info, result.getDigest(),
+                    info.getDigest());
+        }
+        RemoteBundle remote = session.getRemoteBundle(info.getSymbolicName());
+        if (remote == null) {
+            return "Pulled " + info + " isn't installed on [" + session + "]";
+        }
+        if (!Strings.CS.equals(remote.getVersion(), info.getBundleVersion())) {
+            return String.format("Pulled %s is installed on [%s] with version [%s]", info, session,
+                    remote.getVersion());
+        }
+        return null;
+    }
+
+    /**
+     * URL of given bundle in the {@link BundleInstallMojo#pullRepositoryUrl}, null if it isn't the artifact of a
+     * reactor project or, for a SNAPSHOT, if the deployed snapshot can't be looked up.
+     */
+    private String getPullUrl(ConsoleSession session, BundleInfo info) throws IOException {
+        if (StringUtils.isEmpty(this.mojo.pullRepositoryUrl)) {
+            return null;
+        }
+        List<MavenProject> projects = new ArrayList<>();
+        if (this.mojo.project != null) {
+            projects.add(this.mojo.project);
+        }
+        if (this.mojo.reactorProjects != null) {
+            projects.addAll(this.mojo.reactorProjects);
+        }
+        Path bundle = info.getBundle().toPath().toAbsolutePath().normalize();
+        Artifact artifact = projects.stream()
+                .filter(candidate -> candidate.getArtifact() != null)
+                .filter(candidate -> {
+                    File file = this.mojo.getBundleFile(candidate);
+                    return file != null && file.toPath().toAbsolutePath().normalize().equals(bundle);
+                })
+                .findFirst()
+                .map(MavenProject::getArtifact)
+                .orElse(null);
+        if (artifact == null) {
+            return null;
+        }
+        String version = artifact.getVersion();
+        if (Strings.CS.endsWith(version, Artifact.SNAPSHOT_VERSION)) {
+            // Deployed under a timestamped file name, as listed by the maven-metadata.xml of the snapshot.
+            URI metadataUri = URI.create(getDirectoryUrl(this.mojo.pullRepositoryUrl, artifact)
+                    + "/maven-metadata.xml");
+            version = session.fetch(metadataUri, response -> {
+                if (response.getCode() != SC_OK || response.getEntity() == null) {
+                    EntityUtils.consume(response.getEntity());
+                    return null;
+                }
+                try (InputStream stream = response.getEntity().getContent()) {
+                    return getSnapshotVersion(stream, artifact);
+                }
+            });
+            if (version == null) {
+                this.getLog().debug("No deployed snapshot of " + info + " listed in " + metadataUri + "!!");
+                return null;
+            }
+        }
+        return getPullUrl(this.mojo.pullRepositoryUrl, artifact, version);
+    }
+
+    /**
+     * URL of given artifact's jar, of given version, in the Maven repository at given URL, as per the default
+     * repository layout.
+     */
+    static String getPullUrl(String repositoryUrl, Artifact artifact, String version) {
+        String classifier = StringUtils.isEmpty(artifact.getClassifier()) ? "" : "-" + artifact.getClassifier();
+        return getDirectoryUrl(repositoryUrl, artifact) + "/" + artifact.getArtifactId() + "-" + version
+                + classifier + ".jar";
+    }
+
+    private static String getDirectoryUrl(String repositoryUrl, Artifact artifact) {
+        return StringUtils.removeEnd(repositoryUrl, "/") + "/" + artifact.getGroupId().replace('.', '/') + "/"
+                + artifact.getArtifactId() + "/" + artifact.getBaseVersion();
+    }
+
+    /**
+     * The timestamped version of given artifact's jar as per the given maven-metadata.xml of its snapshot, null if it
+     * isn't listed.
+     */
+    static String getSnapshotVersion(InputStream stream, Artifact artifact) throws IOException {
+        Metadata metadata;
+        try {
+            metadata = new MetadataXpp3Reader().read(stream, false);
+        } catch (XmlPullParserException ex) {
+            throw new IOException("Invalid maven-metadata.xml of " + artifact + "!!", ex);
+        }
+        if (metadata.getVersioning() == null) {
+            return null;
+        }
+        return metadata.getVersioning().getSnapshotVersions().stream()
+                .filter(snapshot -> Strings.CS.equals(snapshot.getExtension(), "jar"))
+                .filter(snapshot -> Strings.CS.equals(StringUtils.defaultString(snapshot.getClassifier()),
+                        StringUtils.defaultString(artifact.getClassifier())))
+                .map(SnapshotVersion::getVersion)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Path getEntryIndexFile(ConsoleSession session, BundleInfo info) {
+        return BundleEntryIndex.getFile(this.mojo.deltaIndexDirectory.toPath(), session.getBaseUrl(),
+                info.getSymbolicName());
+    }
+
+    private ClientResponse upload(ConsoleSession session, URI uri, HttpEntity entity, BundleInfo info,
+                                  BundleFileBody body) throws IOException {
+        HttpPost request = new HttpPost(uri);
+        request.setEntity(entity);
+        RetryPolicy policy = this.mojo.getRetryPolicy(this.mojo.installRetry);
+        RetryPolicy.Check check = this.getReinstalledCheck(session, info, policy);
+        long startTime = System.nanoTime();
+        ClientResponse response = session.execute(request, policy, check);
+        // Whatever isn't spent in writing the bundle is the server's install, start and refresh time.
+        long totalNanos = System.nanoTime() - startTime;
+        long uploadNanos = Math.min(body.getUploadNanos(), totalNanos);
+        this.mojo.metrics.record(session.getBaseUrl(), info.getSymbolicName(), PHASE_UPLOAD,
+                TimeUnit.NANOSECONDS.toMillis(uploadNanos), body.getSentBytes());
+        this.mojo.metrics.record(session.getBaseUrl(), info.getSymbolicName(), PHASE_SERVER_RESPONSE,
+                TimeUnit.NANOSECONDS.toMillis(totalNanos - uploadNanos), 0);
+        return response;
+    }
+
+    /**
+     * The check telling a retry whether the failed attempt did install given bundle, null if there is no retry or the
+     * state of the bundle couldn't be read before the install, the install is then simply retried.
+     */
+    private RetryPolicy.Check getReinstalledCheck(ConsoleSession session, BundleInfo info, RetryPolicy policy) {
+        if (policy.getMaxAttempts() <= 1) {
+            return null;
+        }
+        RemoteBundle previous;
+        try {
+            // Taken before the install, null only if the bundle isn't installed at all.
+            previous = session.getRemoteBundle(info.getSymbolicName());
+        } catch (IOException ex) {
+            this.getLog().debug("Couldn't read the state of " + info + " on [" + session + "]: " + ex);
+            return null;
+        }
+        return () -> this.isReinstalled(session, info, previous);
+    }
+
+    /**
+     * Whether given bundle has been installed, or updated, on the server since the given state was taken, the
+     * previous state being null if it wasn't installed.
+     */
+    private boolean isReinstalled(ConsoleSession session, BundleInfo info, RemoteBundle previous) throws IOException {
+        RemoteBundle remote = session.getRemoteBundle(info.getSymbolicName());
+        return remote != null && (previous == null
+                || !Strings.CS.equals(remote.getLastModified(), previous.getLastModified()));
+    }
+
+    /**
+     * The jar to upload for given bundle, the optimized one if {@link BundleInstallMojo#optimize} is enabled and it is
+     * any smaller.
+     */
+    private File getUploadFile(BundleInfo info) throws IOException {
+        if (!this.mojo.optimize) {
+            return info.getBundle();
+        }
+        long startTime = System.nanoTime();
+        BundleOptimizer.Result result = this.getOptimizer().optimize(info);
+        if (result.isCached()) {
+            this.getLog().debug("Reusing the optimized jar " + result.getFile() + " of " + info);
+        } else {
+            this.mojo.metrics.record(null, info.getSymbolicName(), PHASE_OPTIMIZE, startTime);
+            this.getLog().info(String.format("Optimized %s: %d -> %d bytes, %d entries excluded, %d duplicates"
+                            + " dropped, in %d ms", info.getBundle().getName(), result.getOriginalBytes(),
+                    result.getOptimizedBytes(), result.getExcluded(), result.getDuplicates(),
+                    BundleMojoUtil.elapsedMillis(startTime)));
+        }
+        if (result.getSavedBytes() <= 0) {
+            this.getLog().debug("Optimizing " + info + " doesn't pay off, uploading the original jar!!");
+            return info.getBundle();
+        }
+        return result.getFile().toFile();
+    }
+
+    /**
+     * The bundle as uploaded, i.e. of the optimized jar if {@link #getUploadFile(BundleInfo)} picks it.
+     */
+    private BundleInfo getUploadInfo(BundleInfo info) throws IOException {
+        File file = this.getUploadFile(info);
+        return file.equals(info.getBundle()) ? info : BundleInfo.of(file);
+    }
+
+    private synchronized BundleOptimizer getOptimizer() {
+        if (this.optimizer == null) {
+            this.optimizer = new BundleOptimizer(this.mojo.optimizeDirectory.toPath(), this.mojo.optimizeExcludes,
+                    this.mojo.optimizeLevel);
+        }
+        return this.optimizer;
+    }
+
+    private CompressedEntity getCompressedEntity(File file, HttpEntity entity) throws IOException {
+        if (Strings.CI.equals(this.mojo.uploadCompression, COMPRESSION_NONE) || this.compressionUnsupported) {
+            return null;
+        }
+        String encoding = this.mojo.uploadCompression.toLowerCase(Locale.ROOT);
+        if (!COMPRESSION_GZIP.equals(encoding) && !COMPRESSION_DEFLATE.equals(encoding)) {
+            throw new IllegalArgumentException("Unsupported upload compression: " + this.mojo.uploadCompression);
+        }
+        double ratio = CompressedEntity.estimateRatio(file, COMPRESSION_SAMPLE_SIZE, this.mojo.compressionLevel);
+        long savings = Math.round((1 - ratio) * 100);
+        if (savings < this.mojo.compressionMinSavings) {
+            this.getLog().debug(String.format("Estimated compression savings of %s is %d%%, uploading plain!!",
+                    file.getName(), savings));
+            return null;
+        }
+        return new CompressedEntity(entity, encoding, this.mojo.compressionLevel);
+    }
+
+
+    private HttpEntity getMultipartEntity(BundleInfo info, BundleFileBody body) {
+        return this.getMultipartEntityBuilder(info, body).build();
+    }
+
+    private MultipartEntityBuilder getMultipartEntityBuilder(BundleInfo info, BundleFileBody body) {
+        MultipartEntityBuilder multipartEntityBuilder = MultipartEntityBuilder.create()
+                .setCharset(UTF_8)
+                .addPart(PARAM_BUNDLE_FILE, body);
+        this.getInstallParams(info).forEach(param -> multipartEntityBuilder.addTextBody(param.getName(),
+                param.getValue()));
+        return multipartEntityBuilder;
+    }
+
+    /**
+     * The install action along with the start level and flags, common to the upload and the pull install.
+     */
+    private List<NameValuePair> getInstallParams(BundleInfo info) {
+        List<NameValuePair> params = new ArrayList<>();
+        params.add(new BasicNameValuePair(PARAM_ACTION, PARAM_ACTION_INSTALL_VALUE));
+        params.add(new BasicNameValuePair(PARAM_START_LEVEL, this.mojo.getStartLevel(info)));
+        if (this.mojo.startBundle) {
+            params.add(new BasicNameValuePair(PARAM_START, VALUE_TRUE));
+        }
+        if (this.mojo.refreshPackages && !this.mojo.isRefreshCoalesced()) {
+            params.add(new BasicNameValuePair(PARAM_REFRESH_PACKAGES, VALUE_TRUE));
+        }
+        // Since web console v4.4.0
+        if (this.mojo.parallelVersion) {
+            params.add(new BasicNameValuePair(PARAM_PARALLEL_VERSION, VALUE_TRUE));
+        }
+        return params;
+    }
+
+    private Log getLog() {
+        return this.mojo.getLog();
+    }
+}
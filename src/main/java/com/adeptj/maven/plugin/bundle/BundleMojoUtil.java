@@ -22,6 +22,15 @@ package com.adeptj.maven.plugin.bundle;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.logging.Log;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.adeptj.maven.plugin.bundle.Constants.DIGEST_ALGORITHM;
+
 /**
  * Utility methods.
  *
@@ -40,4 +49,31 @@ final class BundleMojoUtil {
         String message = String.format("Bundle %s operation on [%s] failed, cause: %s", op, consoleUrl, ex.getMessage());
         throw new MojoExecutionException(message, ex);
     }
+
+    static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    static void sleep(long millis) throws InterruptedIOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting!!");
+        }
+    }
+
+    static void logResults(Log log, String op, List<BundleResult> results, long totalMillis) {
+        log.info(String.format("Bundle %s summary (%d bundles in %d ms):", op, results.size(), totalMillis));
+        results.forEach(result -> log.info(result.toString()));
+    }
+
+    static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(ex);
+        }
+    }
 }
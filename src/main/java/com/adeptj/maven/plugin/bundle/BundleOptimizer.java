@@ -0,0 +1,213 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.Strings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Rewrites bundle jars into a deploy optimized form: the entries matching the exclude patterns and the duplicate
+ * entries are dropped, and every entry is deflated with the configured level.
+ * <p>
+ * The manifest and the signature files are copied as is, in their original order, and nothing is excluded from a
+ * signed jar, so that the signatures still verify. The optimized jars are stored under the digest of the original
+ * jar and of the options, so the same bytes are optimized only once.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class BundleOptimizer {
+
+    private static final String META_INF = "META-INF/";
+
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    private static final List<String> SIGNATURE_EXTENSIONS = List.of(".SF", ".RSA", ".DSA", ".EC");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+
+    private final List<Pattern> excludes;
+
+    private final int level;
+
+    private final String optionsKey;
+
+    BundleOptimizer(Path directory, List<String> excludes, int level) {
+        this.directory = directory;
+        this.excludes = BundleUninstallAllMojo.toPatterns(excludes);
+        this.level = level;
+        byte[] options = (this.excludes + "|" + level).getBytes(UTF_8);
+        this.optionsKey = HexFormat.of().formatHex(BundleMojoUtil.newMessageDigest().digest(options), 0, 8);
+    }
+
+    /**
+     * Optimized jar of given bundle, from the store if the same bytes have been optimized before.
+     */
+    Result optimize(BundleInfo info) throws IOException {
+        Path target = this.directory.resolve(info.getDigest() + "-" + this.optionsKey + ".jar");
+        if (Files.isRegularFile(target)) {
+            return new Result(target, info.getBundle().length(), Files.size(target), 0, 0, true);
+        }
+        Files.createDirectories(this.directory);
+        Path temp = Files.createTempFile(this.directory, "bundle", ".tmp");
+        try {
+            Result result = this.rewrite(info.getBundle().toPath(), temp);
+            Files.move(temp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+            return new Result(target, result.originalBytes, result.optimizedBytes, result.excluded,
+                    result.duplicates, false);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Result rewrite(Path source, Path target) throws IOException {
+        int excluded = 0;
+        int duplicates = 0;
+        try (ZipFile zip = new ZipFile(source.toFile());
+             ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(target))) {
+            out.setLevel(this.level);
+            boolean signed = isSigned(zip);
+            Set<String> names = new HashSet<>();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (!names.add(name)) {
+                    duplicates++;
+                    continue;
+                }
+                if (!signed && !isProtected(name) && BundleUninstallAllMojo.matches(name, this.excludes)) {
+                    excluded++;
+                    continue;
+                }
+                ZipEntry copy = new ZipEntry(name);
+                copy.setTime(entry.getTime());
+                copy.setComment(entry.getComment());
+                copy.setExtra(entry.getExtra());
+                out.putNextEntry(copy);
+                try (InputStream in = zip.getInputStream(entry)) {
+                    transfer(in, out, buffer);
+                }
+                out.closeEntry();
+            }
+        }
+        return new Result(target, Files.size(source), Files.size(target), excluded, duplicates, false);
+    }
+
+    private static void transfer(InputStream in, OutputStream out, byte[] buffer) throws IOException {
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static boolean isSigned(ZipFile zip) {
+        return zip.stream().map(ZipEntry::getName).anyMatch(BundleOptimizer::isSignatureFile);
+    }
+
+    /**
+     * Whether given entry is the manifest or a signature file, which are never excluded.
+     */
+    static boolean isProtected(String name) {
+        return MANIFEST.equalsIgnoreCase(name) || isSignatureFile(name);
+    }
+
+    private static boolean isSignatureFile(String name) {
+        String upperCase = name.toUpperCase(Locale.ROOT);
+        return upperCase.startsWith(META_INF) && upperCase.indexOf('/', META_INF.length()) == -1
+                && SIGNATURE_EXTENSIONS.stream().anyMatch(extension -> Strings.CS.endsWith(upperCase, extension));
+    }
+
+    /**
+     * Optimized jar along with what the optimization did.
+     */
+    static final class Result {
+
+        private final Path file;
+
+        private final long originalBytes;
+
+        private final long optimizedBytes;
+
+        private final int excluded;
+
+        private final int duplicates;
+
+        private final boolean cached;
+
+        Result(Path file, long originalBytes, long optimizedBytes, int excluded, int duplicates, boolean cached) {
+            this.file = file;
+            this.originalBytes = originalBytes;
+            this.optimizedBytes = optimizedBytes;
+            this.excluded = excluded;
+            this.duplicates = duplicates;
+            this.cached = cached;
+        }
+
+        Path getFile() {
+            return file;
+        }
+
+        long getOriginalBytes() {
+            return originalBytes;
+        }
+
+        long getOptimizedBytes() {
+            return optimizedBytes;
+        }
+
+        int getExcluded() {
+            return excluded;
+        }
+
+        int getDuplicates() {
+            return duplicates;
+        }
+
+        boolean isCached() {
+            return cached;
+        }
+
+        long getSavedBytes() {
+            return this.originalBytes - this.optimizedBytes;
+        }
+    }
+}
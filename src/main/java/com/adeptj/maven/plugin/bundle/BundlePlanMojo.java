@@ -0,0 +1,175 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static com.adeptj.maven.plugin.bundle.BundlePlanMojo.MOJO_NAME;
+
+/**
+ * Mojo for planning the deployment of the OSGi Bundles of the reactor, without changing anything on the AdeptJ
+ * Runtime instances.
+ * <p>
+ * Each bundle is classified as install, update or skip, as per the remote state and the state recorded by the last
+ * install, and the remote bundles matching {@link #prune} but not in the reactor as uninstall. The plan, along with
+ * the bytes to upload and the time estimated from the {@link #metricsHistory} of the earlier deployments, is written
+ * to {@link #planFile} for the apply goal to run it as is. The goal fails, irrespective of {@link #failOnError}, if the
+ * state of any target can't be read.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@Mojo(name = MOJO_NAME, aggregator = true)
+class BundlePlanMojo extends BundleInstallMojo {
+
+    static final String MOJO_NAME = "plan";
+
+    @Parameter(property = "adeptj.plan.file", defaultValue = "${project.build.directory}/adeptj-deploy-plan.json")
+    File planFile;
+
+    /**
+     * Bundle-SymbolicName patterns, with the * and ? wildcards, of the remote bundles to uninstall unless they are in
+     * the reactor.
+     */
+    @Parameter(property = "adeptj.plan.prune")
+    List<String> prune;
+
+    private DeployPlan plan;
+
+    private TimingHistory timings;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        this.plan = new DeployPlan();
+        try {
+            this.timings = TimingHistory.load(this.metricsHistory.toPath());
+        } catch (IOException ex) {
+            this.getLog().warn("Couldn't read the timing history " + this.metricsHistory + ", time not estimated!!",
+                    ex);
+            this.timings = null;
+        }
+        super.execute();
+        if (this.plan.getTargets().isEmpty()) {
+            return;
+        }
+        try {
+            this.plan.write(this.planFile.toPath());
+        } catch (IOException ex) {
+            throw new MojoExecutionException("Couldn't write the deployment plan to " + this.planFile + "!!", ex);
+        }
+        long unestimated = this.plan.getUnestimated();
+        this.getLog().info(String.format("Deployment plan written to %s: %d bytes to upload, estimated time: ~%d ms%s",
+                this.planFile, this.plan.getBytes(), this.plan.getEstimatedMillis(), unestimated == 0 ? ""
+                        : " (" + unestimated + " steps not estimated for lack of timing history)"));
+    }
+
+    /**
+     * A plan made without the state of every target is wrong, so any failure fails the goal before writing it.
+     */
+    @Override
+    boolean isFailOnError() {
+        return true;
+    }
+
+    @Override
+    List<BundleInfo> getBundleInfos() throws IOException {
+        return this.getReactorBundles();
+    }
+
+    @Override
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws IOException {
+        Map<String, RemoteBundle> remotes = session.getInstalledBundles().stream()
+                .filter(remote -> remote.getSymbolicName() != null)
+                .collect(Collectors.toMap(RemoteBundle::getSymbolicName, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+        List<DeployPlan.Step> steps = new ArrayList<>();
+        for (BundleInfo info : infos) {
+            RemoteBundle remote = remotes.get(info.getSymbolicName());
+            DeployPlan.Action action;
+            if (remote == null) {
+                action = DeployPlan.Action.INSTALL;
+            } else if (this.isUnchanged(session.getBaseUrl(), info, this.getDetails(session, info, remote))) {
+                action = DeployPlan.Action.SKIP;
+            } else {
+                action = DeployPlan.Action.UPDATE;
+            }
+            long bytes = action == DeployPlan.Action.SKIP ? 0 : info.getBundle().length();
+            long estimatedMillis = action == DeployPlan.Action.SKIP ? 0 : this.estimateInstall(session, bytes);
+            steps.add(new DeployPlan.Step(info.getSymbolicName(), info.getBundleVersion(), action,
+                    info.getBundle().getAbsolutePath(), info.getDigest(), bytes, estimatedMillis));
+        }
+        List<Pattern> patterns = BundleUninstallAllMojo.toPatterns(this.prune);
+        Set<String> reactor = infos.stream().map(BundleInfo::getSymbolicName).collect(Collectors.toSet());
+        for (RemoteBundle remote : remotes.values()) {
+            if (remote.getId() != 0 && !reactor.contains(remote.getSymbolicName())
+                    && BundleUninstallAllMojo.matches(remote.getSymbolicName(), patterns)) {
+                steps.add(new DeployPlan.Step(remote.getSymbolicName(), remote.getVersion(),
+                        DeployPlan.Action.UNINSTALL, null, null, 0, this.estimateUninstall(session)));
+            }
+        }
+        this.plan.put(session.getBaseUrl(), steps);
+        this.logPlan(session, steps);
+    }
+
+    /**
+     * The listing has no last modification time, the details are fetched only for the bundles the deploy state
+     * records an install of the same digest for.
+     */
+    private RemoteBundle getDetails(ConsoleSession session, BundleInfo info, RemoteBundle remote) throws IOException {
+        return remote.getLastModified() == null && this.isRecorded(session.getBaseUrl(), info)
+                ? session.getInstalledBundle(info.getSymbolicName()) : remote;
+    }
+
+    private long estimateInstall(ConsoleSession session, long bytes) {
+        return this.timings == null ? -1 : this.timings.estimateInstall(session.getBaseUrl(), bytes);
+    }
+
+    private long estimateUninstall(ConsoleSession session) {
+        return this.timings == null ? -1 : this.timings.estimateUninstall(session.getBaseUrl());
+    }
+
+    private void logPlan(ConsoleSession session, List<DeployPlan.Step> steps) {
+        Map<DeployPlan.Action, Long> counts = new EnumMap<>(DeployPlan.Action.class);
+        steps.forEach(step -> counts.merge(step.getAction(), 1L, Long::sum));
+        this.getLog().info(String.format("Deployment plan for [%s]: %s", session, counts));
+        for (DeployPlan.Step step : steps) {
+            this.getLog().info(String.format("  %-60s %10d bytes %10s", step, step.getBytes(),
+                    step.getEstimatedMillis() < 0 ? "?" : "~" + step.getEstimatedMillis() + " ms"));
+        }
+    }
+
+    @Override
+    void handleException(Exception ex) throws MojoExecutionException {
+        BundleMojoUtil.doHandleException(this.getLog(), ex, "plan", this.consoleUrl);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Outcome of a bundle operation, on a bundle or a whole target, used for reporting when multiple bundles or targets
+ * are processed in one go.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class BundleResult {
+
+    private final String bundle;
+
+    private final boolean success;
+
+    private final boolean skipped;
+
+    private final String status;
+
+    private final long elapsedMillis;
+
+    private BundleResult(String bundle, boolean success, String status, long elapsedMillis) {
+        this(bundle, success, false, status, elapsedMillis);
+    }
+
+    private BundleResult(String bundle, boolean success, boolean skipped, String status, long elapsedMillis) {
+        this.bundle = bundle;
+        this.success = success;
+        this.skipped = skipped;
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    static BundleResult of(String bundle, ClientResponse response, long elapsedMillis) {
+        return of(bundle, response, null, elapsedMillis);
+    }
+
+    static BundleResult of(String bundle, ClientResponse response, String detail, long elapsedMillis) {
+        String status = (response.getCode() + " " + StringUtils.defaultString(response.getReasonPhrase())).trim();
+        if (detail != null) {
+            status += ", " + detail;
+        }
+        if (!response.isOk() && response.getDiagnostics() != null) {
+            status += ", " + response.getDiagnostics();
+        }
+        return new BundleResult(bundle, response.isOk(), status, elapsedMillis);
+    }
+
+    static BundleResult success(String bundle, String status, long elapsedMillis) {
+        return new BundleResult(bundle, true, status, elapsedMillis);
+    }
+
+    static BundleResult skipped(String bundle, String reason, long elapsedMillis) {
+        return new BundleResult(bundle, true, true, "Skipped, " + reason, elapsedMillis);
+    }
+
+    static BundleResult failed(String bundle, Exception ex, long elapsedMillis) {
+        return new BundleResult(bundle, false, ex.getClass().getSimpleName() + ": " + ex.getMessage(), elapsedMillis);
+    }
+
+    static BundleResult failed(String bundle, String reason, long elapsedMillis) {
+        return new BundleResult(bundle, false, reason, elapsedMillis);
+    }
+
+    String getBundle() {
+        return bundle;
+    }
+
+    boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * Whether the operation actually went through, a skipped one succeeds without having changed anything.
+     */
+    boolean isApplied() {
+        return success && !skipped;
+    }
+
+    String getStatus() {
+        return status;
+    }
+
+    long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-8s %-60s %8d ms  %s", this.success ? "[OK]" : "[FAILED]", this.bundle,
+                this.elapsedMillis, this.status);
+    }
+}
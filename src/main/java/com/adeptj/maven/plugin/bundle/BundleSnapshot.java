@@ -0,0 +1,163 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of the bundles installed on an AdeptJ instance, fetched with a single bundles.json call and held for the
+ * Maven session per base url, so that the goals needn't query the OSGi Web Console once per bundle.
+ * <p>
+ * The listing carries the id, version and state of the bundles, the last modification time comes with the bundle
+ * details, which are fetched when first needed and kept too. The snapshot is kept in sync with what the goals do
+ * rather than fetched again: an install marks the bundle stale, as the console responds without the bundle state,
+ * and an uninstall removes it.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class BundleSnapshot {
+
+    private static final Map<String, BundleSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    /**
+     * Bundles keyed by symbolic name.
+     */
+    private final Map<String, RemoteBundle> bundles;
+
+    private final Map<Long, String> symbolicNames;
+
+    /**
+     * Bundles whose details have been fetched.
+     */
+    private final Set<String> detailed;
+
+    /**
+     * Bundles changed on the server since they were fetched.
+     */
+    private final Set<String> stale;
+
+    private final long created;
+
+    BundleSnapshot(List<RemoteBundle> bundles) {
+        this.bundles = new ConcurrentHashMap<>();
+        this.symbolicNames = new ConcurrentHashMap<>();
+        this.detailed = ConcurrentHashMap.newKeySet();
+        this.stale = ConcurrentHashMap.newKeySet();
+        this.created = System.currentTimeMillis();
+        bundles.stream()
+                .filter(bundle -> bundle.getSymbolicName() != null)
+                .forEach(this::put);
+    }
+
+    /**
+     * The snapshot of given AdeptJ instance, null if there is none or it is older than given ttl.
+     */
+    static BundleSnapshot get(String baseUrl, long ttlMillis) {
+        BundleSnapshot snapshot = SNAPSHOTS.get(baseUrl);
+        return snapshot == null || System.currentTimeMillis() - snapshot.created > ttlMillis ? null : snapshot;
+    }
+
+    static void put(String baseUrl, BundleSnapshot snapshot) {
+        SNAPSHOTS.put(baseUrl, snapshot);
+    }
+
+    /**
+     * The bundle with given symbolic name as listed, null if it isn't installed or is {@link #isStale(String)}.
+     */
+    RemoteBundle get(String symbolicName) {
+        return this.stale.contains(symbolicName) ? null : this.bundles.get(symbolicName);
+    }
+
+    /**
+     * The bundles ordered by id, as the console lists them.
+     */
+    List<RemoteBundle> getBundles() {
+        return this.bundles.values().stream()
+                .sorted(Comparator.comparingLong(RemoteBundle::getId))
+                .toList();
+    }
+
+    int size() {
+        return this.bundles.size();
+    }
+
+    /**
+     * Whether the details of the bundle with given symbolic name are known, which includes knowing it isn't
+     * installed.
+     */
+    boolean isDetailed(String symbolicName) {
+        return !this.stale.contains(symbolicName)
+                && (this.detailed.contains(symbolicName) || !this.bundles.containsKey(symbolicName));
+    }
+
+    boolean isStale(String symbolicName) {
+        return this.stale.contains(symbolicName);
+    }
+
+    /**
+     * Replaces the bundle with given symbolic name by the one fetched with the details, null if it isn't installed.
+     */
+    void update(String symbolicName, RemoteBundle bundle) {
+        this.removeBySymbolicName(symbolicName);
+        if (bundle != null) {
+            this.put(bundle);
+            this.detailed.add(symbolicName);
+        }
+        this.stale.remove(symbolicName);
+    }
+
+    /**
+     * Marks the bundle with given symbolic name as changed on the server, e.g. by an install.
+     */
+    void markStale(String symbolicName) {
+        this.stale.add(symbolicName);
+        this.detailed.remove(symbolicName);
+    }
+
+    /**
+     * Removes the bundle with given symbolic name or id, e.g. on uninstall.
+     */
+    void remove(String bundle) {
+        String symbolicName = StringUtils.isNumeric(bundle) ? this.symbolicNames.get(Long.parseLong(bundle)) : bundle;
+        if (symbolicName != null) {
+            this.removeBySymbolicName(symbolicName);
+            this.stale.remove(symbolicName);
+        }
+    }
+
+    private void put(RemoteBundle bundle) {
+        this.bundles.put(bundle.getSymbolicName(), bundle);
+        this.symbolicNames.put(bundle.getId(), bundle.getSymbolicName());
+    }
+
+    private void removeBySymbolicName(String symbolicName) {
+        RemoteBundle removed = this.bundles.remove(symbolicName);
+        if (removed != null) {
+            this.symbolicNames.remove(removed.getId());
+        }
+        this.detailed.remove(symbolicName);
+    }
+}
@@ -0,0 +1,216 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static com.adeptj.maven.plugin.bundle.BundleUninstallAllMojo.MOJO_NAME;
+
+/**
+ * Mojo for uninstalling many OSGi Bundles from running AdeptJ Runtime instance, no built bundle needed.
+ * <p>
+ * The bundles are selected with the symbolic name patterns of {@link #includes} and {@link #excludes}, or are the
+ * ones of the reactor. They are looked up with a single listing call, uninstalled concurrently by id and then the
+ * packages are refreshed only once, waiting for the framework to settle.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@Mojo(name = MOJO_NAME, aggregator = true)
+class BundleUninstallAllMojo extends BundleUninstallMojo {
+
+    static final String MOJO_NAME = "uninstall-all";
+
+    private static final long SYSTEM_BUNDLE_ID = 0;
+
+    /**
+     * Bundle-SymbolicName patterns, with the * and ? wildcards, of the bundles to uninstall. The bundles of the
+     * reactor are uninstalled when there is none.
+     */
+    @Parameter(property = "adeptj.uninstall.includes")
+    List<String> includes;
+
+    @Parameter(property = "adeptj.uninstall.excludes")
+    List<String> excludes;
+
+    @Parameter(property = "adeptj.parallelism", defaultValue = "4", required = true)
+    int parallelism;
+
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true, required = true)
+    List<MavenProject> reactorProjects;
+
+    @Override
+    int getMaxConnections() {
+        return Math.max(1, this.parallelism);
+    }
+
+    @Override
+    List<BundleInfo> getBundleInfos() {
+        // The bundles are looked up on the server, the jars needn't be built.
+        return List.of();
+    }
+
+    @Override
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws IOException, MojoExecutionException {
+        List<Pattern> includePatterns = this.getIncludePatterns();
+        List<Pattern> excludePatterns = toPatterns(this.excludes);
+        // A failed listing, e.g. an expired session that couldn't be renewed, is raised and fails the goal, an empty
+        // list here really means no bundle matched.
+        List<RemoteBundle> bundles = session.getInstalledBundles().stream()
+                .filter(bundle -> bundle.getId() != SYSTEM_BUNDLE_ID)
+                .filter(bundle -> matches(bundle.getSymbolicName(), includePatterns))
+                .filter(bundle -> !matches(bundle.getSymbolicName(), excludePatterns))
+                .toList();
+        if (bundles.isEmpty()) {
+            this.getLog().warn("No installed bundles match on [" + session + "], nothing to uninstall!!");
+            return;
+        }
+        this.getLog().info(String.format("Uninstalling %d bundles from [%s] with parallelism [%d]", bundles.size(),
+                session, this.getMaxConnections()));
+        long startTime = System.nanoTime();
+        List<BundleResult> results;
+        try (TaskEngine engine = new TaskEngine(this.getMaxConnections())) {
+            List<Future<BundleResult>> futures = new ArrayList<>();
+            for (RemoteBundle bundle : bundles) {
+                futures.add(engine.fork(session.getBaseUrl(), () -> this.uninstall(session, bundle)));
+            }
+            engine.join();
+            results = futures.stream().map(Future::resultNow).toList();
+        }
+        if (this.refreshPackages && results.stream().anyMatch(BundleResult::isSuccess)) {
+            this.refreshPackages(session);
+        }
+        BundleMojoUtil.logResults(this.getLog(), "uninstall", results, BundleMojoUtil.elapsedMillis(startTime));
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        if (failed == 0) {
+            this.getLog().info("Bundles uninstalled successfully, please check AdeptJ OSGi Web Console"
+                    + " [" + this.consoleUrl + "/bundles" + "]");
+            return;
+        }
+        String message = String.format("Couldn't uninstall %d of %d bundles from [%s], see the summary above!!",
+                failed, bundles.size(), session);
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException(message);
+        }
+        this.getLog().error(message);
+    }
+
+    private BundleResult uninstall(ConsoleSession session, RemoteBundle bundle) {
+        long startTime = System.nanoTime();
+        try {
+            this.getLog().info("Uninstalling " + bundle + " from [" + session + "]");
+            ClientResponse response = this.uninstallBundle(session, String.valueOf(bundle.getId()),
+                    () -> session.getRemoteBundle(bundle.getId()) == null);
+            return BundleResult.of(bundle.getSymbolicName(), response, BundleMojoUtil.elapsedMillis(startTime));
+        } catch (IOException ex) {
+            this.getLog().debug(ex);
+            return BundleResult.failed(bundle.getSymbolicName(), ex, BundleMojoUtil.elapsedMillis(startTime));
+        }
+    }
+
+    private List<Pattern> getIncludePatterns() {
+        if (this.includes != null && !this.includes.isEmpty()) {
+            return toPatterns(this.includes);
+        }
+        Set<String> symbolicNames = new LinkedHashSet<>();
+        if (this.reactorProjects != null) {
+            this.reactorProjects.stream()
+                    .map(this::getSymbolicName)
+                    .filter(StringUtils::isNotEmpty)
+                    .forEach(symbolicNames::add);
+        }
+        this.getLog().debug("Uninstalling the reactor bundles: " + symbolicNames);
+        return symbolicNames.stream()
+                .map(name -> Pattern.compile(Pattern.quote(name)))
+                .toList();
+    }
+
+    /**
+     * Bundle-SymbolicName of given project, read from the bundle if built, derived from the coordinates otherwise.
+     */
+    private String getSymbolicName(MavenProject project) {
+        if (Strings.CS.equals(project.getPackaging(), "pom")) {
+            return null;
+        }
+        File bundle = new File(project.getBuild().getDirectory(), project.getBuild().getFinalName() + ".jar");
+        if (bundle.isFile()) {
+            try {
+                return BundleInfo.of(bundle).getSymbolicName();
+            } catch (IOException | IllegalArgumentException ex) {
+                this.getLog().debug("Couldn't read " + bundle + ", cause: " + ex.getMessage());
+            }
+        }
+        return getSymbolicName(project.getGroupId(), project.getArtifactId());
+    }
+
+    /**
+     * The Bundle-SymbolicName the maven-bundle-plugin defaults to, i.e. groupId.artifactId, with the groupId when the
+     * artifactId is its last section and without the artifactId prefix repeating the last section.
+     */
+    static String getSymbolicName(String groupId, String artifactId) {
+        String lastSection = StringUtils.substringAfterLast(groupId, ".");
+        if (lastSection.isEmpty()) {
+            return groupId + "." + artifactId;
+        }
+        if (artifactId.equals(lastSection)) {
+            return groupId;
+        }
+        if (artifactId.startsWith(lastSection)) {
+            String suffix = StringUtils.stripStart(artifactId.substring(lastSection.length()), "-.");
+            if (!suffix.isEmpty()) {
+                return groupId + "." + suffix;
+            }
+        }
+        return groupId + "." + artifactId;
+    }
+
+    /**
+     * Converts the symbolic name patterns, with the * and ? wildcards, to regular expressions.
+     */
+    static List<Pattern> toPatterns(List<String> patterns) {
+        if (patterns == null) {
+            return List.of();
+        }
+        return patterns.stream()
+                .map(StringUtils::trimToNull)
+                .filter(StringUtils::isNotEmpty)
+                .map(pattern -> Pattern.compile(("\\Q" + pattern + "\\E")
+                        .replace("*", "\\E.*\\Q")
+                        .replace("?", "\\E.\\Q")))
+                .toList();
+    }
+
+    static boolean matches(String symbolicName, List<Pattern> patterns) {
+        return symbolicName != null && patterns.stream().anyMatch(pattern -> pattern.matcher(symbolicName).matches());
+    }
+}
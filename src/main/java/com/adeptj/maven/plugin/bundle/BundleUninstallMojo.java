@@ -19,23 +19,12 @@
 */
 package com.adeptj.maven.plugin.bundle;
 
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.core5.http.NameValuePair;
-import org.apache.hc.core5.http.io.entity.HttpEntities;
-import org.apache.hc.core5.http.message.BasicNameValuePair;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 
 import java.io.IOException;
-import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
 
 import static com.adeptj.maven.plugin.bundle.BundleUninstallMojo.MOJO_NAME;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION;
-import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION_UNINSTALL_VALUE;
-import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_UNINSTALL;
-import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Mojo for uninstall an OSGi bundle from a running AdeptJ Runtime instance.
@@ -48,26 +37,33 @@ class BundleUninstallMojo extends AbstractBundleMojo {
     static final String MOJO_NAME = "uninstall";
 
     @Override
-    void doExecute(BundleInfo info) throws IOException, MojoExecutionException {
-        this.getLog().info("Uninstalling " + info);
-        URI uri = this.getFullUri(String.format(URL_BUNDLE_UNINSTALL, this.consoleUrl, info.getSymbolicName()));
-        HttpPost request = new HttpPost(uri);
-        List<NameValuePair> form = new ArrayList<>();
-        form.add(new BasicNameValuePair(PARAM_ACTION, PARAM_ACTION_UNINSTALL_VALUE));
-        request.setEntity(HttpEntities.createUrlEncoded(form, UTF_8));
-        ClientResponse response = this.httpClient.execute(request, this.responseHandler);
+    void doExecute(ConsoleSession session, BundleInfo info) throws IOException, MojoExecutionException {
+        this.getLog().info("Uninstalling " + info + " from [" + session + "]");
+        ClientResponse response = this.uninstallBundle(session, info.getSymbolicName(),
+                () -> session.getRemoteBundle(info.getSymbolicName()) == null);
         if (response.isOk()) {
             this.getLog().info("Bundle uninstalled successfully, please check AdeptJ OSGi Web Console"
                     + " [" + this.consoleUrl + "/bundles" + "]");
             return;
         }
-        if (this.failOnError) {
-            throw new MojoExecutionException(
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException(response.withDiagnostics(
                     String.format("Couldn't uninstall bundle, reason: [%s], status: [%s]",
                             response.getReasonPhrase(),
-                            response.getCode()));
+                            response.getCode())));
         }
-        this.getLog().error("Problem uninstalling bundle, please check AdeptJ OSGi Web Console!!");
+        this.getLog().error(response.withDiagnostics(
+                "Problem uninstalling bundle, please check AdeptJ OSGi Web Console!!"));
+    }
+
+    /**
+     * Uninstalls the bundle with given symbolic name or id.
+     *
+     * @param uninstalled tells, before a retry, whether the bundle has been uninstalled though the response was lost.
+     */
+    ClientResponse uninstallBundle(ConsoleSession session, String bundle, RetryPolicy.Check uninstalled)
+            throws IOException {
+        return session.uninstall(bundle, this.getRetryPolicy(this.uninstallRetry), uninstalled);
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.adeptj.maven.plugin.bundle.BundleWatchMojo.MOJO_NAME;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Mojo for watching the bundle jars of the reactor and installing them to running AdeptJ Runtime instance as soon as
+ * they are rebuilt, e.g. by {@code mvn package} in another terminal or by the IDE.
+ * <p>
+ * Runs until interrupted (Ctrl+C) over a single authenticated session, which is kept alive while idle and renewed
+ * transparently once it has expired on the server. The burst of file-system events fired while a jar is being
+ * written is debounced by {@link #debounce}.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@Mojo(name = MOJO_NAME, aggregator = true)
+class BundleWatchMojo extends BundleInstallAllMojo {
+
+    static final String MOJO_NAME = "watch";
+
+    /**
+     * Quiet period, in milliseconds, after the last change of a jar before it is installed.
+     */
+    @Parameter(property = "adeptj.watch.debounce", defaultValue = "200")
+    int debounce;
+
+    /**
+     * Interval, in seconds, of the server session keep-alive while no bundle has changed.
+     */
+    @Parameter(property = "adeptj.watch.keepAliveInterval", defaultValue = "60")
+    int keepAliveInterval;
+
+    /**
+     * Nothing is installed upfront, only the bundles changed after the watch has started.
+     */
+    @Override
+    List<BundleInfo> getBundleInfos() {
+        return List.of();
+    }
+
+    @Override
+    void doExecute(ConsoleSession session, List<BundleInfo> infos) throws MojoExecutionException {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Map<Path, Set<Path>> watchedJars = this.register(watchService);
+            if (watchedJars.isEmpty()) {
+                this.getLog().warn("No bundle projects found in the reactor, nothing to watch!!");
+                return;
+            }
+            this.getLog().info(String.format("Watching %d bundles for changes, installing on [%s], press Ctrl+C to"
+                    + " stop!!", watchedJars.values().stream().mapToInt(Set::size).sum(), session));
+            this.watch(session, watchService, watchedJars);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.getLog().info("Bundle watch stopped!!");
+        } catch (ClosedWatchServiceException ex) {
+            this.getLog().info("Bundle watch stopped!!");
+        } catch (IOException ex) {
+            this.handleException(ex);
+        }
+    }
+
+    private void watch(ConsoleSession session, WatchService watchService, Map<Path, Set<Path>> watchedJars)
+            throws InterruptedException, MojoExecutionException {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key = watchService.poll(Math.max(1, this.keepAliveInterval), TimeUnit.SECONDS);
+            if (key == null) {
+                this.keepAlive(session);
+                continue;
+            }
+            Set<Path> changedJars = new LinkedHashSet<>();
+            this.collect(key, watchedJars, changedJars);
+            // Debounce, the jar is usually written in several chunks, each firing a modify event.
+            while ((key = watchService.poll(Math.max(1, this.debounce), TimeUnit.MILLISECONDS)) != null) {
+                this.collect(key, watchedJars, changedJars);
+            }
+            boolean redeployed = false;
+            for (Path jar : changedJars) {
+                redeployed |= this.redeploy(session, jar);
+            }
+            if (redeployed && this.isRefreshCoalesced()) {
+                this.refresh(session);
+            }
+        }
+    }
+
+    private Map<Path, Set<Path>> register(WatchService watchService) throws IOException {
+        Map<Path, Set<Path>> watchedJars = new HashMap<>();
+        for (MavenProject project : this.reactorProjects) {
+            if ("pom".equals(project.getPackaging())) {
+                continue;
+            }
+            Path directory = Path.of(project.getBuild().getDirectory()).toAbsolutePath();
+            Path jar = directory.resolve(project.getBuild().getFinalName() + ".jar");
+            if (!watchedJars.containsKey(directory)) {
+                // Watched before the first build too, or after a clean.
+                Files.createDirectories(directory);
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            }
+            watchedJars.computeIfAbsent(directory, key -> new LinkedHashSet<>()).add(jar);
+            this.getLog().debug("Watching " + jar);
+        }
+        return watchedJars;
+    }
+
+    private void collect(WatchKey key, Map<Path, Set<Path>> watchedJars, Set<Path> changedJars) {
+        Path directory = (Path) key.watchable();
+        Set<Path> jars = watchedJars.getOrDefault(directory, Set.of());
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events were lost, consider all the jars of the directory changed.
+                jars.stream().filter(Files::isRegularFile).forEach(changedJars::add);
+                continue;
+            }
+            Path jar = directory.resolve((Path) event.context());
+            if (jars.contains(jar)) {
+                changedJars.add(jar);
+            }
+        }
+        key.reset();
+    }
+
+    private boolean redeploy(ConsoleSession session, Path jar) {
+        BundleInfo info;
+        try {
+            info = BundleInfo.of(jar.toFile());
+        } catch (IOException | IllegalArgumentException ex) {
+            // Most probably still being written, the next modify event will bring it in again.
+            this.getLog().warn("Couldn't read bundle " + jar + ", cause: " + ex.getMessage());
+            return false;
+        }
+        if (this.preflight) {
+            try {
+                if (this.preflightCheck.resolve(session, List.of(info)).isEmpty()) {
+                    return false;
+                }
+            } catch (IOException | MojoExecutionException ex) {
+                // Keep watching, the bundle may well resolve after the next change.
+                this.getLog().error(ex.getMessage());
+                return false;
+            }
+        }
+        BundleResult result = this.install(session, info);
+        if (result.isSuccess()) {
+            this.getLog().info(String.format("%s redeployed in %d ms [%s]", info, result.getElapsedMillis(),
+                    result.getStatus()));
+        } else {
+            this.getLog().error(String.format("Couldn't redeploy %s, status: [%s]", info, result.getStatus()));
+        }
+        return result.isApplied();
+    }
+
+    private void refresh(ConsoleSession session) {
+        try {
+            this.refreshPackages(session);
+        } catch (IOException | MojoExecutionException ex) {
+            this.getLog().error(ex.getMessage());
+        }
+    }
+
+    private void keepAlive(ConsoleSession session) throws MojoExecutionException {
+        try {
+            if (!session.isAlive() && !session.renew()) {
+                this.handleLoginFailure(session);
+            }
+        } catch (IOException ex) {
+            // Server may just be restarting, keep watching.
+            this.getLog().warn("Couldn't reach [" + session + "], cause: " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of an AdeptJ Runtime instance, shared by all the sessions with it during the build so that a node
+ * which is down isn't hammered by every bundle and every mojo execution.
+ * <p>
+ * Opens after the configured number of consecutive transient failures, the calls then fail fast until the open
+ * duration has elapsed. Then a single trial call is let through, which either closes the circuit or opens it again.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class CircuitBreaker {
+
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private final String baseUrl;
+
+    private volatile int failureThreshold;
+
+    private volatile long openNanos;
+
+    private int failures;
+
+    private boolean open;
+
+    private boolean trial;
+
+    private long openedAt;
+
+    private CircuitBreaker(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * The breaker of given AdeptJ instance, the threshold and duration of the latest mojo execution apply.
+     *
+     * @param failureThreshold consecutive failures opening the circuit, 0 disables the breaker.
+     */
+    static CircuitBreaker of(String baseUrl, int failureThreshold, long openMillis) {
+        CircuitBreaker breaker = BREAKERS.computeIfAbsent(baseUrl, CircuitBreaker::new);
+        breaker.failureThreshold = failureThreshold;
+        breaker.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        return breaker;
+    }
+
+    /**
+     * Lets the call through unless the circuit is open.
+     *
+     * @throws OpenException if the circuit is open, or half open with the trial call still in progress.
+     */
+    synchronized void acquire() throws OpenException {
+        if (!this.open || this.failureThreshold <= 0) {
+            return;
+        }
+        long remainingNanos = this.openedAt + this.openNanos - System.nanoTime();
+        if (remainingNanos > 0 || this.trial) {
+            throw new OpenException(String.format("Circuit to [%s] is open after %d consecutive failures, retry in"
+                    + " %d s!!", this.baseUrl, this.failures, TimeUnit.NANOSECONDS.toSeconds(remainingNanos)));
+        }
+        this.trial = true;
+    }
+
+    synchronized void onSuccess() {
+        this.failures = 0;
+        this.open = false;
+        this.trial = false;
+    }
+
+    /**
+     * Records a transient failure.
+     *
+     * @return true if the circuit has just been opened.
+     */
+    synchronized boolean onFailure() {
+        this.failures++;
+        if (this.failureThreshold <= 0 || (this.open && !this.trial)) {
+            return false;
+        }
+        if (this.trial || this.failures >= this.failureThreshold) {
+            this.open = true;
+            this.trial = false;
+            this.openedAt = System.nanoTime();
+            return true;
+        }
+        return false;
+    }
+
+    synchronized boolean isOpen() {
+        return open;
+    }
+
+    static final class OpenException extends IOException {
+
+        OpenException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.cookie.CookieStore;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+
+/**
+ * {@link HttpTransport} backed by the classic (blocking) HttpClient with a pooled connection manager.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class ClassicHttpTransport implements HttpTransport {
+
+    private final CloseableHttpClient httpClient;
+
+    private final CookieStore cookieStore;
+
+    /**
+     * Whether the client is a warm one, shared by the sessions of the build and not closed along with this transport.
+     */
+    private final boolean warm;
+
+    ClassicHttpTransport(AbstractBundleMojo mojo, CookieStore cookieStore) {
+        HttpConfig config = mojo.getHttpConfig();
+        this.cookieStore = cookieStore;
+        this.warm = config.isKeepWarm();
+        this.httpClient = this.warm
+                ? HttpClientSupport.getWarmClient("classic|" + config.getKey(), () -> createHttpClient(config))
+                : createHttpClient(config);
+    }
+
+    private static CloseableHttpClient createHttpClient(HttpConfig config) {
+        ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofSeconds(config.getConnectTimeout()))
+                .setSocketTimeout(Timeout.ofSeconds(config.getSocketTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(config.getKeepAlive()));
+        if (config.getTimeToLive() > 0) {
+            connectionConfig.setTimeToLive(TimeValue.ofSeconds(config.getTimeToLive()));
+        }
+        ClientTlsStrategyBuilder tlsStrategy = ClientTlsStrategyBuilder.create()
+                .setSslContext(HttpClientSupport.getSslContext(config));
+        if (config.getTlsVersions() != null && !config.getTlsVersions().isEmpty()) {
+            tlsStrategy.setTlsVersions(config.getTlsVersions().toArray(String[]::new));
+        }
+        CredentialsProvider proxyCredentials = HttpClientSupport.getProxyCredentials(config);
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setDefaultConnectionConfig(connectionConfig.build())
+                        .setTlsSocketStrategy(tlsStrategy.buildClassic())
+                        .setMaxConnTotal(config.getMaxConnections())
+                        .setMaxConnPerRoute(config.getMaxConnections())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.ofSeconds(config.getResponseTimeout()))
+                        .setConnectionKeepAlive(TimeValue.ofSeconds(config.getKeepAlive()))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(config.getKeepAlive()))
+                .disableRedirectHandling()
+                .setProxy(HttpClientSupport.getProxy(config));
+        if (proxyCredentials != null) {
+            builder.setDefaultCredentialsProvider(proxyCredentials);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public <T> T execute(ClassicHttpRequest request, HttpClientResponseHandler<T> handler) throws IOException {
+        // Cookies go with the request context, the client may be a warm one shared by the sessions of the build.
+        HttpClientContext context = HttpClientContext.create();
+        context.setCookieStore(this.cookieStore);
+        return this.httpClient.execute(request, context, handler);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.warm) {
+            this.httpClient.close();
+        }
+    }
+}
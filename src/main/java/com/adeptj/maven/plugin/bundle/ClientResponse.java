@@ -19,28 +19,78 @@
 */
 package com.adeptj.maven.plugin.bundle;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import static org.apache.hc.core5.http.HttpStatus.SC_FORBIDDEN;
+import static org.apache.hc.core5.http.HttpStatus.SC_MOVED_TEMPORARILY;
 import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+import static org.apache.hc.core5.http.HttpStatus.SC_SEE_OTHER;
+import static org.apache.hc.core5.http.HttpStatus.SC_UNAUTHORIZED;
 
 /**
  * ClientResponse
+ * <p>
+ * Only the headers the mojos look at are retained, along with, when captured by the {@link ResponseHandler}, a
+ * bounded prefix of the body and the result the OSGi Web Console rendered, for reporting failures.
  *
  * @author Rakesh Kumar, AdeptJ
  */
 public class ClientResponse {
 
+    private static final List<String> RETAINED_HEADERS = List.of(HttpHeaders.RETRY_AFTER, HttpHeaders.LOCATION);
+
+    private static final Pattern HTML_SCRIPT = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+
+    private static final Pattern HTML_TAG = Pattern.compile("(?s)<[^>]*>");
+
+    private static final int MAX_DIAGNOSTICS_LENGTH = 300;
+
     private final int code;
 
     private final String reasonPhrase;
 
     private final Header[] headers;
 
+    private final String body;
+
+    private final boolean bodyTruncated;
+
+    private final ConsoleResult result;
+
     ClientResponse(ClassicHttpResponse response) {
+        this(response, null, false, null);
+    }
+
+    ClientResponse(ClassicHttpResponse response, String body, boolean bodyTruncated, ConsoleResult result) {
         this.code = response.getCode();
         this.reasonPhrase = response.getReasonPhrase();
-        this.headers = response.getHeaders();
+        this.headers = RETAINED_HEADERS.stream()
+                .map(response::getFirstHeader)
+                .filter(Objects::nonNull)
+                .toArray(Header[]::new);
+        this.body = body;
+        this.bodyTruncated = bodyTruncated;
+        this.result = result;
+    }
+
+    /**
+     * A response not received from the server, e.g. for a request found to have been applied by an earlier attempt.
+     */
+    ClientResponse(int code, String reasonPhrase) {
+        this.code = code;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = new Header[0];
+        this.body = null;
+        this.bodyTruncated = false;
+        this.result = null;
     }
 
     public int getCode() {
@@ -51,11 +101,127 @@ public class ClientResponse {
         return reasonPhrase;
     }
 
+    /**
+     * The retained headers, i.e. Retry-After and Location.
+     */
     public Header[] getHeaders() {
-        return headers;
+        return Arrays.copyOf(this.headers, this.headers.length);
+    }
+
+    public Header getFirstHeader(String name) {
+        for (Header header : this.headers) {
+            if (header.getName().equalsIgnoreCase(name)) {
+                return header;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The captured prefix of the body, null if it wasn't captured.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    public boolean isBodyTruncated() {
+        return bodyTruncated;
+    }
+
+    /**
+     * The result the OSGi Web Console rendered as JSON, null if there is none.
+     */
+    ConsoleResult getResult() {
+        return result;
+    }
+
+    /**
+     * One line summary of what the server said: the console's error or the bundle state it reported, or else the
+     * text of the captured body. Null if nothing was captured.
+     */
+    public String getDiagnostics() {
+        if (this.result != null && this.result.getError() != null) {
+            return this.result.getError();
+        }
+        if (this.result != null && this.result.getStateRaw() > 0) {
+            return (this.result.getBundleId() < 0 ? "" : "bundle " + this.result.getBundleId() + " ")
+                    + "state: " + RemoteBundle.getStateName(this.result.getStateRaw());
+        }
+        if (StringUtils.isBlank(this.body)) {
+            return null;
+        }
+        String text = HTML_TAG.matcher(HTML_SCRIPT.matcher(this.body).replaceAll(" ")).replaceAll(" ");
+        text = StringUtils.normalizeSpace(text);
+        if (text.isEmpty()) {
+            return null;
+        }
+        if (text.length() > MAX_DIAGNOSTICS_LENGTH) {
+            return text.substring(0, MAX_DIAGNOSTICS_LENGTH) + "...";
+        }
+        return this.bodyTruncated ? text + "..." : text;
+    }
+
+    /**
+     * Given failure message along with the {@link #getDiagnostics()}, if any.
+     */
+    String withDiagnostics(String message) {
+        String diagnostics = this.getDiagnostics();
+        return diagnostics == null ? message : message + ", server said: [" + diagnostics + "]";
     }
 
     public boolean isOk() {
         return this.code == SC_OK;
     }
+
+    /**
+     * Whether the server asked for authentication, either directly or by redirecting to the login page, which is
+     * what the web console does once the server session has expired.
+     */
+    public boolean isAuthRequired() {
+        return switch (this.code) {
+            case SC_UNAUTHORIZED, SC_FORBIDDEN, SC_MOVED_TEMPORARILY, SC_SEE_OTHER -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Result rendered by the OSGi Web Console for a bundle action, e.g. {@code {"fragment":false,"stateRaw":32}},
+     * or the error rendered on failure.
+     */
+    static final class ConsoleResult {
+
+        private final long bundleId;
+
+        private final int stateRaw;
+
+        private final String error;
+
+        private final String digest;
+
+        ConsoleResult(long bundleId, int stateRaw, String error, String digest) {
+            this.bundleId = bundleId;
+            this.stateRaw = stateRaw;
+            this.error = error;
+            this.digest = digest;
+        }
+
+        long getBundleId() {
+            return bundleId;
+        }
+
+        int getStateRaw() {
+            return stateRaw;
+        }
+
+        String getError() {
+            return error;
+        }
+
+        /**
+         * SHA-256 digest of the bundle the server installed, rendered by the pull install endpoint.
+         */
+        String getDigest() {
+            return digest;
+        }
+    }
 }
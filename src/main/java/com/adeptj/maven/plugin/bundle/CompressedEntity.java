@@ -0,0 +1,195 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.adeptj.maven.plugin.bundle.Constants.COMPRESSION_GZIP;
+
+/**
+ * Entity compressing the wrapped entity on the fly with gzip or deflate and sent with the matching Content-Encoding.
+ * <p>
+ * Keeps track of the raw and compressed bytes so that the savings can be reported once the entity is written.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class CompressedEntity extends HttpEntityWrapper {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int SAMPLE_SLICES = 4;
+
+    private final String encoding;
+
+    private final int level;
+
+    private long compressedBytes;
+
+    CompressedEntity(HttpEntity entity, String encoding, int level) {
+        super(entity);
+        this.encoding = encoding;
+        this.level = level;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return this.encoding;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    /**
+     * Not supported, the entity is streaming only: the compressed bytes are produced while being written by
+     * {@link #writeTo(OutputStream)}, which is all the classic and async transports ever call.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public InputStream getContent() {
+        throw new UnsupportedOperationException("CompressedEntity is streaming only, use writeTo!!");
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out);
+        // Closing finishes the compression and ends the Deflater, the client's stream is left open.
+        try (DeflaterOutputStream compressing = this.newCompressingStream(counting)) {
+            super.writeTo(compressing);
+        }
+        this.compressedBytes = counting.count;
+    }
+
+    /**
+     * The gzip stream ends its default Deflater on close, the deflate stream the given one as close() doesn't.
+     */
+    private DeflaterOutputStream newCompressingStream(OutputStream out) throws IOException {
+        if (COMPRESSION_GZIP.equals(this.encoding)) {
+            return new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    this.def.setLevel(CompressedEntity.this.level);
+                }
+            };
+        }
+        Deflater deflater = new Deflater(this.level);
+        return new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    long getRawBytes() {
+        return super.getContentLength();
+    }
+
+    long getCompressedBytes() {
+        return this.compressedBytes;
+    }
+
+    /**
+     * Estimates the compressed to raw size ratio of the given file by compressing a few slices spread across it.
+     */
+    static double estimateRatio(File file, int sampleSize, int level) throws IOException {
+        long length = file.length();
+        if (length == 0) {
+            return 1.0;
+        }
+        int sliceSize = (int) Math.min(length, Math.max(1, sampleSize / SAMPLE_SLICES));
+        byte[] slice = new byte[sliceSize];
+        byte[] output = new byte[BUFFER_SIZE];
+        long raw = 0;
+        long compressed = 0;
+        Deflater deflater = new Deflater(level, true);
+        try (RandomAccessFile bundle = new RandomAccessFile(file, "r")) {
+            for (int index = 0; index < SAMPLE_SLICES; index++) {
+                long position = (length - sliceSize) * index / Math.max(1, SAMPLE_SLICES - 1);
+                bundle.seek(position);
+                int read = bundle.read(slice);
+                if (read <= 0) {
+                    continue;
+                }
+                deflater.reset();
+                deflater.setInput(slice, 0, read);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed += deflater.deflate(output);
+                }
+                raw += read;
+            }
+        } finally {
+            deflater.end();
+        }
+        return raw == 0 ? 1.0 : (double) compressed / raw;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            this.out.write(b);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            this.out.write(b, off, len);
+            this.count += len;
+        }
+
+        /**
+         * Only flushes, the underlying stream belongs to the HttpClient.
+         */
+        @Override
+        public void close() throws IOException {
+            this.out.flush();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.IOException;
+
+/**
+ * Failure status of an OSGi Web Console request whose JSON is read, so that a failed request is never mistaken for
+ * the console saying there is nothing. Carries the response for telling an expired session or a transient failure
+ * apart, and for reporting what the server said.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class ConsoleException extends IOException {
+
+    private final transient ClientResponse response;
+
+    ConsoleException(ClientResponse response) {
+        super(response.withDiagnostics(String.format("Console responded with status: [%s], reason: [%s]",
+                response.getCode(), response.getReasonPhrase())));
+        this.response = response;
+    }
+
+    ClientResponse getResponse() {
+        return response;
+    }
+
+    int getCode() {
+        return this.response.getCode();
+    }
+}
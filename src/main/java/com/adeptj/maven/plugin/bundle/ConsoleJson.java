@@ -0,0 +1,210 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.adeptj.maven.plugin.bundle.Constants.PROP_EXPORTED_PACKAGES;
+import static com.adeptj.maven.plugin.bundle.Constants.PROP_LAST_MODIFICATION;
+
+/**
+ * Streaming parser for the JSON documents rendered by the OSGi Web Console.
+ * <p>
+ * Only the fields needed by the mojos are read, everything else is skipped without being buffered.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class ConsoleJson {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ConsoleJson() {
+    }
+
+    /**
+     * Parses the {@code data} array of the {@code bundles.json} and {@code bundles/<bundle>.json} documents.
+     */
+    static List<RemoteBundle> parseBundles(InputStream stream) throws IOException {
+        List<RemoteBundle> bundles = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return bundles;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "data".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        bundles.add(readBundle(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * Parses the types of all the services listed in the {@code data} array of the {@code services.json} document.
+     */
+    static Set<String> parseServiceTypes(InputStream stream) throws IOException {
+        Set<String> types = new HashSet<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return types;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "data".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        readServiceTypes(parser, types);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Parses the result rendered for a bundle action, the bundle id and state along with the error, if any. The
+     * stream may be a prefix of the document, what has been read until it ends is returned.
+     *
+     * @return the result, null if the document isn't a JSON object.
+     */
+    static ClientResponse.ConsoleResult parseResult(InputStream stream) throws IOException {
+        long bundleId = -1;
+        int stateRaw = -1;
+        String error = null;
+        String digest = null;
+        try (JsonParser parser = JSON_FACTORY.createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            try {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken token = parser.nextToken();
+                    if (!token.isScalarValue()) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    switch (field) {
+                        case "id", "bundleId" -> bundleId = parser.getValueAsLong(-1);
+                        case "stateRaw" -> stateRaw = parser.getValueAsInt(-1);
+                        case "error", "message" -> error = parser.getValueAsString();
+                        case "digest" -> digest = parser.getValueAsString();
+                        default -> {
+                            // Not needed.
+                        }
+                    }
+                }
+            } catch (JsonProcessingException ex) {
+                // The document is truncated, what has been read so far is still of use.
+            }
+        } catch (JsonProcessingException ex) {
+            // Not JSON after all.
+            return null;
+        }
+        return new ClientResponse.ConsoleResult(bundleId, stateRaw, error, digest);
+    }
+
+    private static void readServiceTypes(JsonParser parser, Set<String> types) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && "types".equals(field)) {
+                while (parser.nextToken() == JsonToken.VALUE_STRING) {
+                    types.add(parser.getText());
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static RemoteBundle readBundle(JsonParser parser) throws IOException {
+        RemoteBundle bundle = new RemoteBundle();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "id" -> bundle.setId(parser.getValueAsLong(-1));
+                case "symbolicName" -> bundle.setSymbolicName(parser.getValueAsString());
+                case "version" -> bundle.setVersion(parser.getValueAsString());
+                case "state" -> bundle.setState(parser.getValueAsString());
+                case "stateRaw" -> bundle.setStateRaw(parser.getValueAsInt());
+                case "fragment" -> bundle.setFragment(parser.getValueAsBoolean());
+                case "props" -> {
+                    if (token == JsonToken.START_ARRAY) {
+                        readProps(parser, bundle);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return bundle;
+    }
+
+    private static void readProps(JsonParser parser, RemoteBundle bundle) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String key = null;
+            String value = null;
+            List<String> values = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("key".equals(field)) {
+                    key = parser.getValueAsString();
+                } else if ("value".equals(field) && token.isScalarValue()) {
+                    value = parser.getValueAsString();
+                } else if ("value".equals(field) && token == JsonToken.START_ARRAY) {
+                    values = new ArrayList<>();
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token.isScalarValue()) {
+                            values.add(parser.getValueAsString());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (PROP_LAST_MODIFICATION.equals(key)) {
+                bundle.setLastModified(value);
+            } else if (PROP_EXPORTED_PACKAGES.equals(key) && values != null) {
+                bundle.setExportedPackages(values);
+            }
+        }
+    }
+}
@@ -0,0 +1,590 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.cookie.BasicCookieStore;
+import org.apache.hc.client5.http.cookie.Cookie;
+import org.apache.hc.client5.http.cookie.CookieStore;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.NameValuePair;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.HttpEntities;
+import org.apache.hc.core5.http.message.BasicNameValuePair;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.adeptj.maven.plugin.bundle.Constants.COOKIE_JSESSIONID;
+import static com.adeptj.maven.plugin.bundle.Constants.J_PASSWORD;
+import static com.adeptj.maven.plugin.bundle.Constants.J_USERNAME;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION_REFRESH_PACKAGES_VALUE;
+import static com.adeptj.maven.plugin.bundle.Constants.PARAM_ACTION_UNINSTALL_VALUE;
+import static com.adeptj.maven.plugin.bundle.Constants.RT_ADAPTER_TOMCAT;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLES;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLES_JSON;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_JSON;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_BUNDLE_UNINSTALL;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_SERVICES_JSON;
+import static com.adeptj.maven.plugin.bundle.Constants.URL_SESSION_CHECK;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_LOGIN;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_LOGOUT;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_SESSION_INIT;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_SESSION_RESTORE;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_UNINSTALL;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+
+/**
+ * Authenticated HTTP session with the OSGi Web Console of a single AdeptJ Runtime instance.
+ * <p>
+ * Every session has its own cookie store and {@link HttpTransport}, so that multiple AdeptJ instances can be deployed
+ * to concurrently. The transport is thread safe and can be shared by the concurrent calls to the same instance.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class ConsoleSession implements Closeable {
+
+    private final AbstractBundleMojo mojo;
+
+    private final String baseUrl;
+
+    private final String user;
+
+    private final String password;
+
+    private final String serverAdapter;
+
+    private final CookieStore cookieStore;
+
+    private final HttpTransport transport;
+
+    private final CircuitBreaker breaker;
+
+    /**
+     * Whether the failures on this instance are raised rather than logged, always on one of several targets, as the
+     * fan-out summarizes them and only then decides as per failOnError.
+     */
+    private final boolean failOnError;
+
+    private final HttpClientResponseHandler<ClientResponse> responseHandler;
+
+    /**
+     * Handler of a single bundle's JSON, a 404 tells the bundle isn't installed.
+     */
+    private final HttpClientResponseHandler<List<RemoteBundle>> bundleJsonHandler;
+
+    private final HttpClientResponseHandler<List<RemoteBundle>> bundlesJsonHandler;
+
+    private final HttpClientResponseHandler<Set<String>> servicesJsonHandler;
+
+    /**
+     * Locks guarding network calls, not monitors, so that the virtual threads waiting on them aren't pinned.
+     */
+    private final Lock snapshotLock;
+
+    private final Lock renewLock;
+
+    private volatile boolean loginSucceeded;
+
+    /**
+     * Incremented on every re-login, so that the concurrent calls hitting an expired session log in only once.
+     */
+    private volatile int generation;
+
+    ConsoleSession(AbstractBundleMojo mojo, ServerTarget target, boolean failOnError) {
+        this.mojo = mojo;
+        this.failOnError = failOnError;
+        this.baseUrl = StringUtils.removeEnd(target.getBaseUrl(), "/");
+        this.user = StringUtils.defaultIfEmpty(target.getUser(), mojo.user);
+        this.password = StringUtils.defaultIfEmpty(target.getPassword(), mojo.password);
+        this.serverAdapter = StringUtils.defaultIfEmpty(target.getServerAdapter(), mojo.serverAdapter);
+        this.cookieStore = new BasicCookieStore();
+        this.transport = this.createTransport();
+        this.breaker = CircuitBreaker.of(this.baseUrl, mojo.circuitFailureThreshold,
+                TimeUnit.SECONDS.toMillis(mojo.circuitOpenDuration));
+        this.responseHandler = new ResponseHandler(mojo.responseBodyLimit);
+        this.bundleJsonHandler = new JsonResponseHandler<>(ConsoleJson::parseBundles, List.of(),
+                mojo.responseBodyLimit);
+        this.bundlesJsonHandler = new JsonResponseHandler<>(ConsoleJson::parseBundles, null, mojo.responseBodyLimit);
+        this.servicesJsonHandler = new JsonResponseHandler<>(ConsoleJson::parseServiceTypes, null,
+                mojo.responseBodyLimit);
+        this.snapshotLock = new ReentrantLock();
+        this.renewLock = new ReentrantLock();
+    }
+
+    private HttpTransport createTransport() {
+        return switch (this.mojo.transport) {
+            case CLASSIC -> new ClassicHttpTransport(this.mojo, this.cookieStore);
+            case ASYNC -> new AsyncHttpTransport(this.mojo, this.cookieStore, false);
+            case HTTP2 -> new AsyncHttpTransport(this.mojo, this.cookieStore, true);
+        };
+    }
+
+    String getBaseUrl() {
+        return baseUrl;
+    }
+
+    boolean isFailOnError() {
+        return this.failOnError;
+    }
+
+    URI getFullUri(String url) {
+        if (!Strings.CS.startsWith(url, "/")) {
+            url = "/" + url;
+        }
+        URI uri = URI.create(this.baseUrl + url);
+        this.getLog().debug("URI to hit: " + uri);
+        return uri;
+    }
+
+    /**
+     * Executes the request, the request is retried once after logging in again if the server session has expired.
+     */
+    ClientResponse execute(ClassicHttpRequest request) throws IOException {
+        int current = this.generation;
+        ClientResponse response = this.send(request, this.responseHandler);
+        if (this.loginSucceeded && response.isAuthRequired() && this.renew(current)) {
+            response = this.send(request, this.responseHandler);
+        }
+        return response;
+    }
+
+    /**
+     * Executes the request as per given retry policy. Before a retry, the check tells whether the failed attempt has
+     * taken effect after all, e.g. the bundle got installed though the response was lost, if so no more attempts are
+     * made and a 200 is returned.
+     *
+     * @param check null if the request is safe to repeat as is.
+     */
+    ClientResponse execute(ClassicHttpRequest request, RetryPolicy policy, RetryPolicy.Check check)
+            throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            ClientResponse response = null;
+            String failure;
+            try {
+                response = this.execute(request);
+                if (attempt >= policy.getMaxAttempts() || !RetryPolicy.isTransient(response)) {
+                    return response;
+                }
+                failure = response.withDiagnostics("status: " + response.getCode());
+            } catch (CircuitBreaker.OpenException ex) {
+                throw ex;
+            } catch (IOException ex) {
+                if (attempt >= policy.getMaxAttempts() || !RetryPolicy.isTransient(ex)) {
+                    throw ex;
+                }
+                failure = ex.toString();
+            }
+            this.awaitRetry(request, policy, attempt, response, failure);
+            if (check != null && this.isApplied(check)) {
+                this.getLog().info(String.format("%s %s on [%s] was applied by the failed attempt, not retrying!!",
+                        request.getMethod(), request.getPath(), this));
+                return new ClientResponse(SC_OK, "OK, applied by an earlier attempt");
+            }
+        }
+    }
+
+    private boolean isApplied(RetryPolicy.Check check) {
+        try {
+            return check.isApplied();
+        } catch (IOException ex) {
+            // A state that couldn't be read means not applied, the retry itself will tell.
+            this.getLog().debug("Couldn't check whether the failed attempt was applied: " + ex);
+            return false;
+        }
+    }
+
+    /**
+     * Executes the request, safe to repeat, reading the response with given handler, which raises the failure status
+     * as a {@link ConsoleException}. As for {@link #execute(ClassicHttpRequest)}, the request is repeated once after
+     * logging in again if the server session has expired, and the transient failures are retried as per the
+     * {@code adeptj.retry.*} parameters.
+     */
+    <T> T execute(ClassicHttpRequest request, HttpClientResponseHandler<T> handler) throws IOException {
+        RetryPolicy policy = this.mojo.getRetryPolicy(null);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return this.sendRenewing(request, handler);
+            } catch (CircuitBreaker.OpenException ex) {
+                throw ex;
+            } catch (IOException ex) {
+                if (attempt >= policy.getMaxAttempts() || !RetryPolicy.isTransient(ex)) {
+                    throw ex;
+                }
+                ClientResponse response = ex instanceof ConsoleException console ? console.getResponse() : null;
+                this.awaitRetry(request, policy, attempt, response, ex.getMessage());
+            }
+        }
+    }
+
+    private <T> T sendRenewing(ClassicHttpRequest request, HttpClientResponseHandler<T> handler) throws IOException {
+        int current = this.generation;
+        try {
+            return this.send(request, handler);
+        } catch (ConsoleException ex) {
+            if (this.loginSucceeded && ex.getResponse().isAuthRequired() && this.renew(current)) {
+                return this.send(request, handler);
+            }
+            throw ex;
+        }
+    }
+
+    private void awaitRetry(ClassicHttpRequest request, RetryPolicy policy, int attempt, ClientResponse response,
+                            String failure) throws IOException {
+        long delay = policy.getDelayMillis(attempt, response);
+        this.getLog().warn(String.format("%s %s on [%s] failed (%s), attempt %d of %d, retrying in %d ms!!",
+                request.getMethod(), request.getPath(), this, failure, attempt, policy.getMaxAttempts(), delay));
+        BundleMojoUtil.sleep(delay);
+    }
+
+    /**
+     * Executes the request through the circuit breaker of this AdeptJ instance, the breaker records the outcome from
+     * the HTTP status seen by the handler, a transient status or an I/O failure counts as a failure.
+     */
+    private <T> T send(ClassicHttpRequest request, HttpClientResponseHandler<T> handler) throws IOException {
+        this.breaker.acquire();
+        AtomicInteger status = new AtomicInteger();
+        try {
+            return this.transport.execute(request, response -> {
+                status.set(response.getCode());
+                return handler.handleResponse(response);
+            });
+        } finally {
+            // No status means the request never got a response.
+            if (status.get() == 0 || RetryPolicy.isTransient(status.get())) {
+                this.onFailure();
+            } else {
+                this.breaker.onSuccess();
+            }
+        }
+    }
+
+    private void onFailure() {
+        if (this.breaker.onFailure()) {
+            this.getLog().warn(String.format("Too many failures on [%s], failing fast for %d s!!", this,
+                    this.mojo.circuitOpenDuration));
+        }
+    }
+
+    /**
+     * Fetches a resource outside the OSGi Web Console, e.g. from the Maven repository, through the transport of this
+     * session but without its login, retries and circuit breaker.
+     */
+    <T> T fetch(URI uri, HttpClientResponseHandler<T> handler) throws IOException {
+        return this.transport.execute(new HttpGet(uri), handler);
+    }
+
+    /**
+     * Fetches the bundle with given symbolic name from the OSGi Web Console, null if it is not installed, i.e. the
+     * console answered 404, any other failure is raised.
+     */
+    RemoteBundle getRemoteBundle(String symbolicName) throws IOException {
+        String url = String.format(URL_BUNDLE_JSON, this.mojo.consoleUrl, symbolicName);
+        List<RemoteBundle> bundles = this.execute(new HttpGet(this.getFullUri(url)), this.bundleJsonHandler);
+        return bundles.stream()
+                .filter(bundle -> Strings.CS.equals(bundle.getSymbolicName(), symbolicName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Bundle with given symbolic name as per the {@link BundleSnapshot} of the installed bundles, with the details
+     * fetched when not known yet, or as fetched afresh if the snapshot is disabled. Null if there is no such bundle.
+     */
+    RemoteBundle getInstalledBundle(String symbolicName) throws IOException {
+        BundleSnapshot snapshot = this.getSnapshot();
+        if (snapshot == null) {
+            return this.getRemoteBundle(symbolicName);
+        }
+        if (snapshot.isDetailed(symbolicName)) {
+            return snapshot.get(symbolicName);
+        }
+        RemoteBundle bundle = this.getRemoteBundle(symbolicName);
+        snapshot.update(symbolicName, bundle);
+        return bundle;
+    }
+
+    /**
+     * All the bundles, without details, as per the {@link BundleSnapshot} or as fetched afresh if it is disabled.
+     */
+    List<RemoteBundle> getInstalledBundles() throws IOException {
+        BundleSnapshot snapshot = this.getSnapshot();
+        return snapshot == null ? this.getRemoteBundles() : snapshot.getBundles();
+    }
+
+    /**
+     * Marks the bundle with given symbolic name installed, or updated, on the server.
+     */
+    void onInstalled(String symbolicName) {
+        BundleSnapshot snapshot = BundleSnapshot.get(this.baseUrl, Long.MAX_VALUE);
+        if (snapshot != null) {
+            snapshot.markStale(symbolicName);
+        }
+    }
+
+    private BundleSnapshot getSnapshot() throws IOException {
+        if (!this.mojo.snapshot) {
+            return null;
+        }
+        this.snapshotLock.lock();
+        try {
+            long ttlMillis = TimeUnit.SECONDS.toMillis(this.mojo.snapshotTtl);
+            BundleSnapshot snapshot = BundleSnapshot.get(this.baseUrl, ttlMillis);
+            if (snapshot == null) {
+                // A failed fetch is raised, so only a complete listing is ever cached.
+                snapshot = new BundleSnapshot(this.getRemoteBundles());
+                BundleSnapshot.put(this.baseUrl, snapshot);
+                this.getLog().debug("Fetched the snapshot of " + snapshot.size() + " bundles of [" + this + "]");
+            }
+            return snapshot;
+        } finally {
+            this.snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Fetches all the bundles, without details, from the OSGi Web Console, a listing without even the system bundle,
+     * e.g. a login page served with a 200, is raised as a failure.
+     */
+    List<RemoteBundle> getRemoteBundles() throws IOException {
+        String url = String.format(URL_BUNDLES_JSON, this.mojo.consoleUrl);
+        List<RemoteBundle> bundles = this.execute(new HttpGet(this.getFullUri(url)), this.bundlesJsonHandler);
+        if (bundles.isEmpty()) {
+            throw new IOException("OSGi Web Console of [" + this + "] listed no bundles, not even the system bundle!!");
+        }
+        return bundles;
+    }
+
+    /**
+     * Fetches the details, such as the exported packages, of the bundle with given id, null if there is no such bundle.
+     */
+    RemoteBundle getRemoteBundle(long id) throws IOException {
+        String url = String.format(URL_BUNDLE_JSON, this.mojo.consoleUrl, id);
+        List<RemoteBundle> bundles = this.execute(new HttpGet(this.getFullUri(url)), this.bundleJsonHandler);
+        return bundles.isEmpty() ? null : bundles.get(0);
+    }
+
+    /**
+     * Refreshes the packages of the bundles updated or uninstalled since the last refresh, along with their dependents,
+     * which is what the framework does when no bundles are given to refresh.
+     */
+    ClientResponse refreshPackages() throws IOException {
+        HttpPost request = new HttpPost(this.getFullUri(String.format(URL_BUNDLES, this.mojo.consoleUrl)));
+        List<NameValuePair> form = new ArrayList<>();
+        form.add(new BasicNameValuePair(PARAM_ACTION, PARAM_ACTION_REFRESH_PACKAGES_VALUE));
+        request.setEntity(HttpEntities.createUrlEncoded(form, UTF_8));
+        return this.execute(request);
+    }
+
+    /**
+     * Uninstalls the bundle with given symbolic name or id, as per given retry policy.
+     */
+    ClientResponse uninstall(String bundle, RetryPolicy policy, RetryPolicy.Check check) throws IOException {
+        long startTime = System.nanoTime();
+        HttpPost request = new HttpPost(this.getFullUri(String.format(URL_BUNDLE_UNINSTALL, this.mojo.consoleUrl,
+                bundle)));
+        List<NameValuePair> form = new ArrayList<>();
+        form.add(new BasicNameValuePair(PARAM_ACTION, PARAM_ACTION_UNINSTALL_VALUE));
+        request.setEntity(HttpEntities.createUrlEncoded(form, UTF_8));
+        ClientResponse response = this.execute(request, policy, check);
+        this.mojo.metrics.record(this.baseUrl, bundle, PHASE_UNINSTALL, startTime);
+        BundleSnapshot snapshot = BundleSnapshot.get(this.baseUrl, Long.MAX_VALUE);
+        if (response.isOk() && snapshot != null) {
+            snapshot.remove(bundle);
+        }
+        return response;
+    }
+
+    /**
+     * Fetches the types (object classes) of all the services registered in the framework.
+     */
+    Set<String> getServiceTypes() throws IOException {
+        String url = String.format(URL_SERVICES_JSON, this.mojo.consoleUrl);
+        return this.execute(new HttpGet(this.getFullUri(url)), this.servicesJsonHandler);
+    }
+
+    /**
+     * Restores the cached server session if still valid, otherwise logs in.
+     * <p>
+     * After login, HttpClient will pass the JSESSIONID received in the Set-Cookie header in the auth call.
+     */
+    boolean open() throws IOException {
+        return this.restoreSession() || this.authenticate();
+    }
+
+    private boolean authenticate() throws IOException {
+        long startTime = System.nanoTime();
+        this.initServerHttpSession();
+        this.mojo.metrics.record(this.baseUrl, null, PHASE_SESSION_INIT, startTime);
+        startTime = System.nanoTime();
+        boolean loggedIn = this.login();
+        this.mojo.metrics.record(this.baseUrl, null, PHASE_LOGIN, startTime);
+        if (!loggedIn) {
+            return false;
+        }
+        if (this.mojo.reuseSession) {
+            SessionCache.put(this.baseUrl, this.user, this.cookieStore.getCookies(), this.getSessionFile());
+        }
+        return true;
+    }
+
+    private boolean restoreSession() throws IOException {
+        if (!this.mojo.reuseSession) {
+            return false;
+        }
+        List<Cookie> cookies = SessionCache.get(this.baseUrl, this.user, this.getSessionFile());
+        if (cookies.isEmpty()) {
+            return false;
+        }
+        cookies.forEach(this.cookieStore::addCookie);
+        long startTime = System.nanoTime();
+        HttpHead request = new HttpHead(this.getFullUri(String.format(URL_SESSION_CHECK, this.mojo.consoleUrl)));
+        ClientResponse response = this.execute(request);
+        this.mojo.metrics.record(this.baseUrl, null, PHASE_SESSION_RESTORE, startTime);
+        if (response.isOk()) {
+            this.getLog().debug("Reusing the cached server session!!");
+            this.loginSucceeded = true;
+            return true;
+        }
+        this.getLog().debug("Cached server session has expired, status code: " + response.getCode());
+        this.cookieStore.clear();
+        SessionCache.remove(this.baseUrl, this.user, this.getSessionFile());
+        return false;
+    }
+
+    /**
+     * Checks whether the server session is still valid, also keeps it alive on the server.
+     */
+    boolean isAlive() throws IOException {
+        HttpHead request = new HttpHead(this.getFullUri(String.format(URL_SESSION_CHECK, this.mojo.consoleUrl)));
+        return this.send(request, this.responseHandler).isOk();
+    }
+
+    /**
+     * Logs in again, after the server session has expired or has been invalidated.
+     */
+    boolean renew() throws IOException {
+        return this.renew(this.generation);
+    }
+
+    private boolean renew(int expiredGeneration) throws IOException {
+        this.renewLock.lock();
+        try {
+            if (expiredGeneration != this.generation) {
+                // Already renewed by a concurrent call.
+                return this.loginSucceeded;
+            }
+            this.getLog().info("Server session on [" + this + "] has expired, logging in again!!");
+            this.loginSucceeded = false;
+            this.cookieStore.clear();
+            if (this.mojo.reuseSession) {
+                SessionCache.remove(this.baseUrl, this.user, this.getSessionFile());
+            }
+            boolean renewed = this.authenticate();
+            this.generation++;
+            return renewed;
+        } finally {
+            this.renewLock.unlock();
+        }
+    }
+
+    private Path getSessionFile() {
+        return this.mojo.persistSession ? this.mojo.sessionFile.toPath() : null;
+    }
+
+    private void initServerHttpSession() throws IOException {
+        if (Strings.CI.equals(this.serverAdapter, RT_ADAPTER_TOMCAT)) {
+            HttpGet request = new HttpGet(this.getFullUri(this.mojo.consoleUrl));
+            ClientResponse response = this.execute(request);
+            if (response.isOk()) {
+                this.getLog().debug("Invoked /system/console so that server HttpSession is initialized!");
+            }
+        }
+    }
+
+    boolean login() throws IOException {
+        HttpPost request = new HttpPost(this.getFullUri(this.mojo.loginUrl));
+        List<NameValuePair> form = new ArrayList<>();
+        form.add(new BasicNameValuePair(J_USERNAME, this.user));
+        form.add(new BasicNameValuePair(J_PASSWORD, this.password));
+        request.setEntity(HttpEntities.createUrlEncoded(form, UTF_8));
+        ClientResponse response = this.execute(request, this.mojo.getRetryPolicy(this.mojo.loginRetry), null);
+        this.getLog().debug("Login status code: " + response.getCode());
+        this.loginSucceeded = this.cookieStore.getCookies()
+                .stream()
+                .anyMatch(cookie -> Strings.CS.startsWith(cookie.getName(), COOKIE_JSESSIONID));
+        return this.loginSucceeded;
+    }
+
+    void logout() {
+        // A reused session must be kept alive for the subsequent executions.
+        if (this.loginSucceeded && !this.mojo.reuseSession) {
+            this.getLog().debug("Invoking Logout!!");
+            try {
+                long startTime = System.nanoTime();
+                HttpGet request = new HttpGet(this.getFullUri(this.mojo.logoutUrl));
+                ClientResponse response = this.transport.execute(request, this.responseHandler);
+                this.mojo.metrics.record(this.baseUrl, null, PHASE_LOGOUT, startTime);
+                this.getLog().debug("Logout status code: " + response.getCode());
+                this.getLog().debug("Logout successful!!");
+                this.cookieStore.clear();
+            } catch (IOException ex) {
+                this.getLog().error(ex);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        this.logout();
+        try {
+            this.cookieStore.clear();
+            this.transport.close();
+            this.getLog().debug("HttpTransport closed!!");
+        } catch (IOException ex) {
+            this.getLog().error(ex);
+        }
+    }
+
+    private Log getLog() {
+        return this.mojo.getLog();
+    }
+
+    @Override
+    public String toString() {
+        return this.baseUrl;
+    }
+}
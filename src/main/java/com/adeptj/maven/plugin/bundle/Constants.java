@@ -45,24 +45,48 @@ public final class Constants {
 
     static final String URL_BUNDLE_INSTALL = "%s/install";
 
+    static final String URL_BUNDLE_DELTA_INSTALL = "%s/install/delta";
+
+    static final String URL_BUNDLE_PULL_INSTALL = "%s/install/pull";
+
     static final String URL_BUNDLE_UNINSTALL = "%s/bundles/%s";
 
+    static final String URL_BUNDLE_JSON = "%s/bundles/%s.json";
+
+    static final String URL_BUNDLES_JSON = "%s/bundles.json";
+
+    static final String URL_BUNDLES = "%s/bundles";
+
+    static final String URL_SERVICES_JSON = "%s/services.json";
+
+    static final String URL_SESSION_CHECK = "%s/bundles/0.json";
+
     static final String PARAM_START_LEVEL = "bundlestartlevel";
 
     static final String PARAM_START = "bundlestart";
 
     static final String PARAM_BUNDLE_FILE = "bundlefile";
 
+    static final String PARAM_BUNDLE_URL = "bundleurl";
+
+    static final String PARAM_BUNDLE_DIGEST = "bundledigest";
+
     static final String PARAM_REFRESH_PACKAGES = "refreshPackages";
 
     static final String PARAM_PARALLEL_VERSION = "parallelVersion";
 
+    static final String PARAM_BASE_DIGEST = "baseDigest";
+
+    static final String PARAM_REMOVED_ENTRIES = "removedEntries";
+
     static final String PARAM_ACTION = "action";
 
     static final String PARAM_ACTION_INSTALL_VALUE = "install";
 
     static final String PARAM_ACTION_UNINSTALL_VALUE = "uninstall";
 
+    static final String PARAM_ACTION_REFRESH_PACKAGES_VALUE = "refreshPackages";
+
     static final String VALUE_TRUE = "true";
 
     static final String VALUE_FALSE = "false";
@@ -73,5 +97,33 @@ public final class Constants {
 
     static final String BUNDLE_SYMBOLIC_NAME = "Bundle-SymbolicName";
 
+    static final String IMPORT_PACKAGE = "Import-Package";
+
+    static final String EXPORT_PACKAGE = "Export-Package";
+
+    static final String REQUIRE_CAPABILITY = "Require-Capability";
+
+    static final String FRAGMENT_HOST = "Fragment-Host";
+
+    static final String PROP_LAST_MODIFICATION = "Last Modification";
+
+    static final String PROP_EXPORTED_PACKAGES = "Exported Packages";
+
+    static final String DIGEST_ALGORITHM = "SHA-256";
+
+    static final String COMPRESSION_NONE = "none";
+
+    static final String COMPRESSION_GZIP = "gzip";
+
+    static final String COMPRESSION_DEFLATE = "deflate";
+
+    static final int COMPRESSION_SAMPLE_SIZE = 4 * 1024 * 1024;
+
+    static final long READINESS_INITIAL_DELAY_MILLIS = 100;
+
+    static final long READINESS_MAX_DELAY_MILLIS = 2000;
+
+    static final int METRICS_HISTORY_MAX_ROWS = 10000;
+
     static final String RT_ADAPTER_TOMCAT = "tomcat";
 }
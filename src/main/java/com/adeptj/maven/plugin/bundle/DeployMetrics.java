@@ -0,0 +1,244 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Collects the time taken by each phase of a deployment, e.g. login, upload and server response, per target and
+ * bundle. Thread safe, so that the concurrent uploads and targets can record into the same instance.
+ * <p>
+ * The samples are written as JSON and CSV reports, so that CI can track the deploy latency across builds, appended to
+ * a CSV history kept across builds, and can be summarized, per phase, in the Maven log.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class DeployMetrics {
+
+    static final String PHASE_MANIFEST_READ = "manifest-read";
+
+    static final String PHASE_SESSION_INIT = "session-init";
+
+    static final String PHASE_SESSION_RESTORE = "session-restore";
+
+    static final String PHASE_LOGIN = "login";
+
+    static final String PHASE_UPLOAD = "upload";
+
+    static final String PHASE_SERVER_RESPONSE = "server-response";
+
+    static final String PHASE_LOGOUT = "logout";
+
+    static final String PHASE_REFRESH = "refresh";
+
+    static final String PHASE_LAYER = "layer";
+
+    static final String PHASE_UNINSTALL = "uninstall";
+
+    static final String PHASE_OPTIMIZE = "optimize";
+
+    static final String PHASE_PULL = "pull";
+
+    static final String REPORT_NAME = "adeptj-deploy-metrics";
+
+    private static final String CSV_HEADER = "goal,startTime,target,bundle,phase,millis,bytes";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Serializes the appends of the builds running in this JVM, the file lock only guards against other processes,
+     * as overlapping locks of the same JVM fail rather than wait.
+     */
+    private static final Lock HISTORY_LOCK = new ReentrantLock();
+
+    private final String goal;
+
+    private final Instant startTime;
+
+    private final ConcurrentLinkedQueue<Sample> samples;
+
+    DeployMetrics(String goal) {
+        this.goal = goal;
+        this.startTime = Instant.now();
+        this.samples = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Records the time elapsed since the given {@link System#nanoTime()}.
+     */
+    void record(String target, String bundle, String phase, long startNanos) {
+        this.record(target, bundle, phase, BundleMojoUtil.elapsedMillis(startNanos), 0);
+    }
+
+    void record(String target, String bundle, String phase, long millis, long bytes) {
+        this.samples.add(new Sample(target, bundle, phase, millis, bytes));
+    }
+
+    void writeJson(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, UTF_8);
+             JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeStringField("goal", this.goal);
+            generator.writeStringField("startTime", this.startTime.toString());
+            generator.writeArrayFieldStart("samples");
+            for (Sample sample : this.samples) {
+                generator.writeStartObject();
+                generator.writeStringField("target", sample.target);
+                generator.writeStringField("bundle", sample.bundle);
+                generator.writeStringField("phase", sample.phase);
+                generator.writeNumberField("millis", sample.millis);
+                generator.writeNumberField("bytes", sample.bytes);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    void writeCsv(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+            writeCsv(writer, this.toCsvRows());
+        }
+    }
+
+    /**
+     * Appends the samples to given CSV history, which keeps the last given number of rows so as not to grow unbounded.
+     * The history is shared by the builds, concurrent ones included, so it is read, trimmed and replaced under a lock
+     * on a sidecar lock file, lest an append be lost.
+     */
+    void appendCsv(Path file, int maxRows) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path lockFile = parent.resolve(file.getFileName() + ".lock");
+        HISTORY_LOCK.lock();
+        try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE);
+             FileLock ignored = channel.lock()) {
+            List<String> rows = new ArrayList<>();
+            if (Files.isRegularFile(file)) {
+                List<String> lines = Files.readAllLines(file, UTF_8);
+                // Without the header.
+                rows.addAll(lines.subList(Math.min(1, lines.size()), lines.size()));
+            }
+            rows.addAll(this.toCsvRows());
+            Path temp = Files.createTempFile(parent, "deploy-history", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, UTF_8)) {
+                writeCsv(writer, rows.subList(Math.max(0, rows.size() - maxRows), rows.size()));
+            }
+            Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            HISTORY_LOCK.unlock();
+        }
+    }
+
+    private List<String> toCsvRows() {
+        List<String> rows = new ArrayList<>();
+        for (Sample sample : this.samples) {
+            rows.add(String.join(",", this.goal, this.startTime.toString(), csv(sample.target), csv(sample.bundle),
+                    sample.phase, String.valueOf(sample.millis), String.valueOf(sample.bytes)));
+        }
+        return rows;
+    }
+
+    private static void writeCsv(Writer writer, List<String> rows) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (String row : rows) {
+            writer.write(row);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Logs count, total, max time and bytes of each phase.
+     */
+    void logSummary(Log log) {
+        Map<String, long[]> phases = new TreeMap<>();
+        for (Sample sample : this.samples) {
+            long[] stats = phases.computeIfAbsent(sample.phase, phase -> new long[4]);
+            stats[0]++;
+            stats[1] += sample.millis;
+            stats[2] = Math.max(stats[2], sample.millis);
+            stats[3] += sample.bytes;
+        }
+        log.info(String.format("Deploy metrics of [%s] (%d ms in total):", this.goal,
+                System.currentTimeMillis() - this.startTime.toEpochMilli()));
+        log.info(String.format("%-16s %6s %10s %10s %14s", "phase", "count", "total ms", "max ms", "bytes"));
+        phases.forEach((phase, stats) -> log.info(String.format("%-16s %6d %10d %10d %14d", phase, stats[0],
+                stats[1], stats[2], stats[3])));
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return StringUtils.containsAny(value, ',', '"', '\n') ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    /**
+     * Time taken by a single phase.
+     */
+    static final class Sample {
+
+        private final String target;
+
+        private final String bundle;
+
+        private final String phase;
+
+        private final long millis;
+
+        private final long bytes;
+
+        Sample(String target, String bundle, String phase, long millis, long bytes) {
+            this.target = target;
+            this.bundle = bundle;
+            this.phase = phase;
+            this.millis = millis;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Deployment plan, written by the plan goal and run as is by the apply goal. Lists, per AdeptJ instance, what is done
+ * with each bundle, in the order it is done, along with the estimated transfer and time.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class DeployPlan {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Instant created;
+
+    private final Map<String, List<Step>> targets;
+
+    DeployPlan() {
+        this(Instant.now());
+    }
+
+    private DeployPlan(Instant created) {
+        this.created = created;
+        this.targets = new TreeMap<>();
+    }
+
+    Instant getCreated() {
+        return created;
+    }
+
+    synchronized void put(String baseUrl, List<Step> steps) {
+        this.targets.put(baseUrl, List.copyOf(steps));
+    }
+
+    synchronized List<String> getTargets() {
+        return List.copyOf(this.targets.keySet());
+    }
+
+    /**
+     * Steps of given AdeptJ instance, null if it isn't part of the plan.
+     */
+    synchronized List<Step> getSteps(String baseUrl) {
+        return this.targets.get(baseUrl);
+    }
+
+    synchronized long getBytes() {
+        return this.targets.values().stream()
+                .flatMap(List::stream)
+                .mapToLong(Step::getBytes)
+                .sum();
+    }
+
+    /**
+     * Estimated time of the slowest target, the targets being deployed to concurrently, of the steps with an estimate.
+     */
+    synchronized long getEstimatedMillis() {
+        return this.targets.values().stream()
+                .mapToLong(steps -> steps.stream()
+                        .mapToLong(Step::getEstimatedMillis)
+                        .filter(millis -> millis > 0)
+                        .sum())
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * Steps without an estimate, for lack of timing history.
+     */
+    synchronized long getUnestimated() {
+        return this.targets.values().stream()
+                .flatMap(List::stream)
+                .filter(step -> step.getEstimatedMillis() < 0)
+                .count();
+    }
+
+    synchronized void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp, UTF_8);
+                 JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeStringField("created", this.created.toString());
+                generator.writeArrayFieldStart("targets");
+                for (Map.Entry<String, List<Step>> target : this.targets.entrySet()) {
+                    generator.writeStartObject();
+                    generator.writeStringField("baseUrl", target.getKey());
+                    generator.writeArrayFieldStart("steps");
+                    for (Step step : target.getValue()) {
+                        step.write(generator);
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static DeployPlan read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, UTF_8);
+             JsonParser parser = JSON_FACTORY.createParser(reader)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            DeployPlan plan = null;
+            Map<String, List<Step>> targets = new TreeMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "created" -> plan = new DeployPlan(Instant.parse(parser.getText()));
+                    case "targets" -> {
+                        expect(parser, token, JsonToken.START_ARRAY);
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            readTarget(parser, targets);
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (plan == null) {
+                throw new IOException("Not a deployment plan: " + file);
+            }
+            plan.targets.putAll(targets);
+            return plan;
+        }
+    }
+
+    private static void readTarget(JsonParser parser, Map<String, List<Step>> targets) throws IOException {
+        String baseUrl = null;
+        List<Step> steps = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "baseUrl" -> baseUrl = parser.getText();
+                case "steps" -> {
+                    expect(parser, token, JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        steps.add(Step.read(parser));
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (baseUrl == null) {
+            throw new IOException("Deployment plan target without baseUrl!!");
+        }
+        targets.put(baseUrl, List.copyOf(steps));
+    }
+
+    private static void expect(JsonParser parser, JsonToken token, JsonToken expected) throws IOException {
+        if (token != expected) {
+            throw new IOException("Malformed deployment plan, expected " + expected + " but found " + token
+                    + " at " + parser.currentLocation());
+        }
+    }
+
+    enum Action {
+
+        INSTALL,
+
+        UPDATE,
+
+        SKIP,
+
+        UNINSTALL
+    }
+
+    /**
+     * What is done with a single bundle, the file and digest are those of the local bundle, null for an uninstall.
+     */
+    static final class Step {
+
+        private final String symbolicName;
+
+        private final String version;
+
+        private final Action action;
+
+        private final String file;
+
+        private final String digest;
+
+        private final long bytes;
+
+        private final long estimatedMillis;
+
+        Step(String symbolicName, String version, Action action, String file, String digest, long bytes,
+             long estimatedMillis) {
+            this.symbolicName = symbolicName;
+            this.version = version;
+            this.action = action;
+            this.file = file;
+            this.digest = digest;
+            this.bytes = bytes;
+            this.estimatedMillis = estimatedMillis;
+        }
+
+        String getSymbolicName() {
+            return symbolicName;
+        }
+
+        String getVersion() {
+            return version;
+        }
+
+        Action getAction() {
+            return action;
+        }
+
+        String getFile() {
+            return file;
+        }
+
+        String getDigest() {
+            return digest;
+        }
+
+        /**
+         * Bytes to upload.
+         */
+        long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Estimated time, -1 if there is no timing history to estimate from.
+         */
+        long getEstimatedMillis() {
+            return estimatedMillis;
+        }
+
+        private void write(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("symbolicName", this.symbolicName);
+            generator.writeStringField("version", this.version);
+            generator.writeStringField("action", this.action.name());
+            generator.writeStringField("file", this.file);
+            generator.writeStringField("digest", this.digest);
+            generator.writeNumberField("bytes", this.bytes);
+            generator.writeNumberField("estimatedMillis", this.estimatedMillis);
+            generator.writeEndObject();
+        }
+
+        private static Step read(JsonParser parser) throws IOException {
+            String symbolicName = null;
+            String version = null;
+            Action action = null;
+            String file = null;
+            String digest = null;
+            long bytes = 0;
+            long estimatedMillis = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                String text = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                switch (field) {
+                    case "symbolicName" -> symbolicName = text;
+                    case "version" -> version = text;
+                    case "action" -> action = text == null ? null : Action.valueOf(text);
+                    case "file" -> file = text;
+                    case "digest" -> digest = text;
+                    case "bytes" -> bytes = parser.getLongValue();
+                    case "estimatedMillis" -> estimatedMillis = parser.getLongValue();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (symbolicName == null || action == null) {
+                throw new IOException("Deployment plan step without symbolicName or action!!");
+            }
+            return new Step(symbolicName, version, action, file, digest, bytes, estimatedMillis);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %s (%s)", this.action, this.symbolicName, this.version);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Locally persisted state of the bundles installed by the plugin, keyed by AdeptJ base url and bundle symbolic name.
+ * <p>
+ * Used by the incremental install for deciding whether a bundle has changed since it was last installed.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class DeployState {
+
+    private static final String KEY_DIGEST = ".digest";
+
+    private static final String KEY_VERSION = ".version";
+
+    private static final String KEY_LAST_MODIFIED = ".lastModified";
+
+    private final Path file;
+
+    private final Properties properties;
+
+    private DeployState(Path file, Properties properties) {
+        this.file = file;
+        this.properties = properties;
+    }
+
+    static DeployState load(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                properties.load(stream);
+            }
+        }
+        return new DeployState(file, properties);
+    }
+
+    synchronized Entry get(String baseUrl, String symbolicName) {
+        String key = toKey(baseUrl, symbolicName);
+        String digest = this.properties.getProperty(key + KEY_DIGEST);
+        if (digest == null) {
+            return null;
+        }
+        return new Entry(digest,
+                this.properties.getProperty(key + KEY_VERSION),
+                this.properties.getProperty(key + KEY_LAST_MODIFIED));
+    }
+
+    synchronized void put(String baseUrl, String symbolicName, Entry entry) throws IOException {
+        String key = toKey(baseUrl, symbolicName);
+        this.setProperty(key + KEY_DIGEST, entry.getDigest());
+        this.setProperty(key + KEY_VERSION, entry.getVersion());
+        this.setProperty(key + KEY_LAST_MODIFIED, entry.getLastModified());
+        this.store();
+    }
+
+    synchronized void remove(String baseUrl, String symbolicName) throws IOException {
+        String key = toKey(baseUrl, symbolicName);
+        this.properties.remove(key + KEY_DIGEST);
+        this.properties.remove(key + KEY_VERSION);
+        this.properties.remove(key + KEY_LAST_MODIFIED);
+        this.store();
+    }
+
+    private void setProperty(String key, String value) {
+        if (value == null) {
+            this.properties.remove(key);
+        } else {
+            this.properties.setProperty(key, value);
+        }
+    }
+
+    private void store() throws IOException {
+        Path parent = this.file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "deploy-state", ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp)) {
+            this.properties.store(stream, "AdeptJ Maven Plugin deploy state");
+        }
+        Files.move(temp, this.file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    private static String toKey(String baseUrl, String symbolicName) {
+        return baseUrl + "|" + symbolicName;
+    }
+
+    /**
+     * State of a single installed bundle.
+     */
+    static final class Entry {
+
+        private final String digest;
+
+        private final String version;
+
+        private final String lastModified;
+
+        Entry(String digest, String version, String lastModified) {
+            this.digest = digest;
+            this.version = version;
+            this.lastModified = lastModified;
+        }
+
+        String getDigest() {
+            return digest;
+        }
+
+        String getVersion() {
+            return version;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
+import org.apache.hc.client5.http.impl.auth.CredentialsProviderBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.io.ModalCloseable;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509TrustManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * TLS, proxy and client sharing support for the {@link HttpTransport} implementations.
+ * <p>
+ * The SSLContexts are cached per trust material for the whole build, so the TLS sessions they hold are resumed by
+ * every client connecting to the same instance, and so are the warm clients, see {@link HttpConfig#isKeepWarm()},
+ * which are closed when the JVM exits.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class HttpClientSupport {
+
+    private static final Map<String, SSLContext> SSL_CONTEXTS = new ConcurrentHashMap<>();
+
+    private static final Map<String, ModalCloseable> WARM_CLIENTS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> WARM_CLIENTS.values()
+                .forEach(client -> client.close(CloseMode.IMMEDIATE)), "adeptj-http-clients-shutdown"));
+    }
+
+    private HttpClientSupport() {
+    }
+
+    /**
+     * SSLContext trusting the JDK default CAs along with the ones of given config.
+     *
+     * @throws IllegalArgumentException if the trust material can't be loaded.
+     */
+    static SSLContext getSslContext(HttpConfig config) {
+        if (!config.hasTrustMaterial()) {
+            try {
+                return SSLContext.getDefault();
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalArgumentException("Default SSLContext isn't available!!", ex);
+            }
+        }
+        return SSL_CONTEXTS.computeIfAbsent(config.getTrustKey(), key -> {
+            try {
+                SSLContext sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(null, new TrustManager[]{new CompositeTrustManager(getTrustManager(loadTrust(config)),
+                        getTrustManager(null))}, null);
+                return sslContext;
+            } catch (IOException | GeneralSecurityException ex) {
+                throw new IllegalArgumentException("Couldn't load the trust material of the http config!!", ex);
+            }
+        });
+    }
+
+    /**
+     * Warm client of given key, created with given factory if there is none yet.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends ModalCloseable> T getWarmClient(String key, Supplier<T> factory) {
+        return (T) WARM_CLIENTS.computeIfAbsent(key, k -> factory.get());
+    }
+
+    /**
+     * Proxy of given config, null if there is none.
+     */
+    static HttpHost getProxy(HttpConfig config) {
+        return StringUtils.isEmpty(config.getProxyHost()) ? null
+                : new HttpHost(config.getProxyScheme(), config.getProxyHost(), config.getProxyPort());
+    }
+
+    /**
+     * Credentials of the proxy of given config, null if it needn't authenticate.
+     */
+    static CredentialsProvider getProxyCredentials(HttpConfig config) {
+        HttpHost proxy = getProxy(config);
+        if (proxy == null || StringUtils.isEmpty(config.getProxyUser())) {
+            return null;
+        }
+        return CredentialsProviderBuilder.create()
+                .add(proxy, config.getProxyUser(), StringUtils.defaultString(config.getProxyPassword()).toCharArray())
+                .build();
+    }
+
+    static KeyStore loadTrust(HttpConfig config) throws IOException, GeneralSecurityException {
+        KeyStore keyStore;
+        if (config.getTrustStore() != null) {
+            keyStore = KeyStore.getInstance(config.getTrustStoreType());
+            char[] password = config.getTrustStorePassword() == null ? null
+                    : config.getTrustStorePassword().toCharArray();
+            try (InputStream stream = Files.newInputStream(config.getTrustStore().toPath())) {
+                keyStore.load(stream, password);
+            }
+        } else {
+            keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(null, null);
+        }
+        File pem = config.getTrustCertificates();
+        if (pem != null) {
+            int index = 0;
+            for (Certificate certificate : loadCertificates(pem)) {
+                keyStore.setCertificateEntry("adeptj-ca-" + index++, certificate);
+            }
+        }
+        return keyStore;
+    }
+
+    private static Iterable<? extends Certificate> loadCertificates(File pem) throws IOException,
+            CertificateException {
+        try (InputStream stream = Files.newInputStream(pem.toPath())) {
+            return CertificateFactory.getInstance("X.509").generateCertificates(stream);
+        }
+    }
+
+    /**
+     * X509TrustManager of given KeyStore, the JDK default one if it is null.
+     */
+    private static X509TrustManager getTrustManager(KeyStore keyStore) throws GeneralSecurityException {
+        TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init(keyStore);
+        return Arrays.stream(factory.getTrustManagers())
+                .filter(X509TrustManager.class::isInstance)
+                .map(X509TrustManager.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new GeneralSecurityException("No X509TrustManager available!!"));
+    }
+
+    /**
+     * Trusts a certificate chain if either the configured or the JDK default trust manager does.
+     */
+    static final class CompositeTrustManager implements X509TrustManager {
+
+        private final X509TrustManager custom;
+
+        private final X509TrustManager defaults;
+
+        CompositeTrustManager(X509TrustManager custom, X509TrustManager defaults) {
+            this.custom = custom;
+            this.defaults = defaults;
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            try {
+                this.custom.checkClientTrusted(chain, authType);
+            } catch (CertificateException ex) {
+                this.defaults.checkClientTrusted(chain, authType);
+            }
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+            try {
+                this.custom.checkServerTrusted(chain, authType);
+            } catch (CertificateException ex) {
+                this.defaults.checkServerTrusted(chain, authType);
+            }
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return Stream.concat(Arrays.stream(this.custom.getAcceptedIssuers()),
+                    Arrays.stream(this.defaults.getAcceptedIssuers())).toArray(X509Certificate[]::new);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.File;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Settings of the HTTP client talking to the AdeptJ Runtime instances, configured via the {@code http} mojo parameter.
+ * <p>
+ * The timeouts, when given, take precedence over the {@code adeptj.http.*} parameters, and the max connections over
+ * the ones the goal asks for. Trust material is added to the JDK default one, so that the certificates issued by an
+ * internal CA are trusted along with the public ones.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class HttpConfig {
+
+    /**
+     * Connect timeout in seconds.
+     */
+    private Integer connectTimeout;
+
+    /**
+     * Socket inactivity timeout in seconds.
+     */
+    private Integer socketTimeout;
+
+    /**
+     * Response timeout in seconds.
+     */
+    private Integer responseTimeout;
+
+    /**
+     * Size of the connection pool.
+     */
+    private Integer maxConnections;
+
+    /**
+     * Time, in seconds, an idle connection is kept alive when the server doesn't tell, idle connections are closed
+     * after that long.
+     */
+    private int keepAlive = 30;
+
+    /**
+     * Max lifetime, in seconds, of a connection, 0 means no limit.
+     */
+    private int timeToLive;
+
+    /**
+     * Protocols enabled for TLS, e.g. TLSv1.3, the JDK defaults when not given.
+     */
+    private List<String> tlsVersions;
+
+    /**
+     * Trust store, holding the certificates of the internal CAs.
+     */
+    private File trustStore;
+
+    private String trustStoreType = "PKCS12";
+
+    private String trustStorePassword;
+
+    /**
+     * PEM file with the certificates of the internal CAs, an alternative to the {@link #trustStore}.
+     */
+    private File trustCertificates;
+
+    private String proxyHost;
+
+    private int proxyPort = 8080;
+
+    private String proxyScheme = "http";
+
+    private String proxyUser;
+
+    private String proxyPassword;
+
+    /**
+     * Keep the client, along with its pooled connections and TLS sessions, for the whole build so that the goals and
+     * modules executed after this one needn't connect again.
+     */
+    private boolean keepWarm;
+
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Integer connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Integer getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    public void setSocketTimeout(Integer socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public Integer getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    public void setResponseTimeout(Integer responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(int keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public int getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(int timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public List<String> getTlsVersions() {
+        return tlsVersions;
+    }
+
+    public void setTlsVersions(List<String> tlsVersions) {
+        this.tlsVersions = tlsVersions;
+    }
+
+    public File getTrustStore() {
+        return trustStore;
+    }
+
+    public void setTrustStore(File trustStore) {
+        this.trustStore = trustStore;
+    }
+
+    public String getTrustStoreType() {
+        return trustStoreType;
+    }
+
+    public void setTrustStoreType(String trustStoreType) {
+        this.trustStoreType = trustStoreType;
+    }
+
+    public String getTrustStorePassword() {
+        return trustStorePassword;
+    }
+
+    public void setTrustStorePassword(String trustStorePassword) {
+        this.trustStorePassword = trustStorePassword;
+    }
+
+    public File getTrustCertificates() {
+        return trustCertificates;
+    }
+
+    public void setTrustCertificates(File trustCertificates) {
+        this.trustCertificates = trustCertificates;
+    }
+
+    public String getProxyHost() {
+        return proxyHost;
+    }
+
+    public void setProxyHost(String proxyHost) {
+        this.proxyHost = proxyHost;
+    }
+
+    public int getProxyPort() {
+        return proxyPort;
+    }
+
+    public void setProxyPort(int proxyPort) {
+        this.proxyPort = proxyPort;
+    }
+
+    public String getProxyScheme() {
+        return proxyScheme;
+    }
+
+    public void setProxyScheme(String proxyScheme) {
+        this.proxyScheme = proxyScheme;
+    }
+
+    public String getProxyUser() {
+        return proxyUser;
+    }
+
+    public void setProxyUser(String proxyUser) {
+        this.proxyUser = proxyUser;
+    }
+
+    public String getProxyPassword() {
+        return proxyPassword;
+    }
+
+    public void setProxyPassword(String proxyPassword) {
+        this.proxyPassword = proxyPassword;
+    }
+
+    public boolean isKeepWarm() {
+        return keepWarm;
+    }
+
+    public void setKeepWarm(boolean keepWarm) {
+        this.keepWarm = keepWarm;
+    }
+
+    /**
+     * Copy of this config with the timeouts and max connections not given set to the given ones.
+     */
+    HttpConfig withDefaults(int connectTimeout, int socketTimeout, int responseTimeout, int maxConnections) {
+        HttpConfig config = new HttpConfig();
+        config.connectTimeout = Objects.requireNonNullElse(this.connectTimeout, connectTimeout);
+        config.socketTimeout = Objects.requireNonNullElse(this.socketTimeout, socketTimeout);
+        config.responseTimeout = Objects.requireNonNullElse(this.responseTimeout, responseTimeout);
+        config.maxConnections = Objects.requireNonNullElse(this.maxConnections, maxConnections);
+        config.keepAlive = this.keepAlive;
+        config.timeToLive = this.timeToLive;
+        config.tlsVersions = this.tlsVersions;
+        config.trustStore = this.trustStore;
+        config.trustStoreType = this.trustStoreType;
+        config.trustStorePassword = this.trustStorePassword;
+        config.trustCertificates = this.trustCertificates;
+        config.proxyHost = this.proxyHost;
+        config.proxyPort = this.proxyPort;
+        config.proxyScheme = this.proxyScheme;
+        config.proxyUser = this.proxyUser;
+        config.proxyPassword = this.proxyPassword;
+        config.keepWarm = this.keepWarm;
+        return config;
+    }
+
+    boolean hasTrustMaterial() {
+        return this.trustStore != null || this.trustCertificates != null;
+    }
+
+    /**
+     * Identifies the trust material, the clients and TLS contexts are shared by the configs with the same key.
+     */
+    String getTrustKey() {
+        return this.trustStore + "|" + this.trustStoreType + "|" + this.trustStorePassword + "|"
+                + this.trustCertificates;
+    }
+
+    /**
+     * Identifies all the settings, the warm clients are shared by the configs with the same key.
+     */
+    String getKey() {
+        return String.join("|", String.valueOf(this.connectTimeout), String.valueOf(this.socketTimeout),
+                String.valueOf(this.responseTimeout), String.valueOf(this.maxConnections),
+                String.valueOf(this.keepAlive), String.valueOf(this.timeToLive), String.valueOf(this.tlsVersions),
+                this.getTrustKey(), this.proxyScheme + "://" + this.proxyHost + ":" + this.proxyPort,
+                this.proxyUser + ":" + this.proxyPassword);
+    }
+}
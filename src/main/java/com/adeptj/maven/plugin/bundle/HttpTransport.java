@@ -0,0 +1,39 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Transport executing the requests to the OSGi Web Console of an AdeptJ Runtime instance.
+ * <p>
+ * Requests and response handlers are always the classic (blocking) ones so that the mojos stay agnostic of the
+ * underlying HttpClient flavor.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+interface HttpTransport extends Closeable {
+
+    <T> T execute(ClassicHttpRequest request, HttpClientResponseHandler<T> handler) throws IOException;
+}
@@ -0,0 +1,81 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.apache.hc.core5.http.HttpStatus.SC_NOT_FOUND;
+import static org.apache.hc.core5.http.HttpStatus.SC_OK;
+
+/**
+ * Handler parsing the JSON rendered by the OSGi Web Console. A 404 yields the given not found value, if any, as the
+ * console answers so for a bundle which isn't installed. Any other failure status is raised as a
+ * {@link ConsoleException}, which must not be taken for the console rendering nothing.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class JsonResponseHandler<T> implements HttpClientResponseHandler<T> {
+
+    private final JsonReader<T> reader;
+
+    private final T notFoundValue;
+
+    private final ResponseHandler failureHandler;
+
+    /**
+     * @param notFoundValue the value of a 404, null if a 404 is a failure too.
+     * @param maxBodyBytes  max bytes of a failure response body kept for diagnostics.
+     */
+    JsonResponseHandler(JsonReader<T> reader, T notFoundValue, int maxBodyBytes) {
+        this.reader = reader;
+        this.notFoundValue = notFoundValue;
+        this.failureHandler = new ResponseHandler(maxBodyBytes);
+    }
+
+    @Override
+    public T handleResponse(ClassicHttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (response.getCode() == SC_OK && entity != null) {
+            try (InputStream stream = entity.getContent()) {
+                return this.reader.read(stream);
+            }
+        }
+        if (response.getCode() == SC_NOT_FOUND && this.notFoundValue != null) {
+            EntityUtils.consume(entity);
+            return this.notFoundValue;
+        }
+        throw new ConsoleException(this.failureHandler.handleResponse(response));
+    }
+
+    /**
+     * Reads the JSON from the response stream.
+     */
+    @FunctionalInterface
+    interface JsonReader<T> {
+
+        T read(InputStream stream) throws IOException;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Clause of an OSGi manifest header such as Import-Package, i.e. one or more paths (package names) followed by the
+ * attributes ({@code name=value}) and directives ({@code name:=value}) applying to all of them.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class ManifestClause {
+
+    private final List<String> paths;
+
+    private final Map<String, String> attributes;
+
+    private final Map<String, String> directives;
+
+    private ManifestClause(List<String> paths, Map<String, String> attributes, Map<String, String> directives) {
+        this.paths = paths;
+        this.attributes = attributes;
+        this.directives = directives;
+    }
+
+    /**
+     * Parses the clauses of given header value, an empty or null value has no clauses.
+     */
+    static List<ManifestClause> parse(String header) {
+        List<ManifestClause> clauses = new ArrayList<>();
+        for (String clause : split(StringUtils.trimToEmpty(header), ',')) {
+            List<String> paths = new ArrayList<>();
+            Map<String, String> attributes = new HashMap<>();
+            Map<String, String> directives = new HashMap<>();
+            for (String part : split(clause, ';')) {
+                int index = part.indexOf('=');
+                if (index < 0) {
+                    paths.add(part);
+                } else if (index > 0 && part.charAt(index - 1) == ':') {
+                    directives.put(part.substring(0, index - 1).trim(), unquote(part.substring(index + 1)));
+                } else {
+                    attributes.put(part.substring(0, index).trim(), unquote(part.substring(index + 1)));
+                }
+            }
+            if (!paths.isEmpty()) {
+                clauses.add(new ManifestClause(paths, attributes, directives));
+            }
+        }
+        return clauses;
+    }
+
+    /**
+     * Splits on given separator, except when it appears within double quotes, and drops the blank parts.
+     */
+    private static List<String> split(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        boolean quoted = false;
+        int start = 0;
+        for (int index = 0; index <= value.length(); index++) {
+            if (index == value.length() || (value.charAt(index) == separator && !quoted)) {
+                String part = value.substring(start, index).trim();
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+                start = index + 1;
+            } else if (value.charAt(index) == '"') {
+                quoted = !quoted;
+            }
+        }
+        return parts;
+    }
+
+    private static String unquote(String value) {
+        return StringUtils.strip(value.trim(), "\"");
+    }
+
+    List<String> getPaths() {
+        return paths;
+    }
+
+    String getAttribute(String name) {
+        return this.attributes.get(name);
+    }
+
+    String getDirective(String name) {
+        return this.directives.get(name);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * OSGi version, major.minor.micro.qualifier, ordered as per the OSGi Core specification.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class OsgiVersion implements Comparable<OsgiVersion> {
+
+    static final OsgiVersion EMPTY = new OsgiVersion(0, 0, 0, "");
+
+    private final int major;
+
+    private final int minor;
+
+    private final int micro;
+
+    private final String qualifier;
+
+    private OsgiVersion(int major, int minor, int micro, String qualifier) {
+        this.major = major;
+        this.minor = minor;
+        this.micro = micro;
+        this.qualifier = qualifier;
+    }
+
+    /**
+     * Parses the version, an empty or null version is 0.0.0.
+     *
+     * @throws IllegalArgumentException if the version is malformed.
+     */
+    static OsgiVersion parse(String version) {
+        String value = StringUtils.strip(StringUtils.trimToEmpty(version), "\"");
+        if (value.isEmpty()) {
+            return EMPTY;
+        }
+        String[] parts = value.split("\\.", 4);
+        try {
+            return new OsgiVersion(Integer.parseInt(parts[0]),
+                    parts.length > 1 ? Integer.parseInt(parts[1]) : 0,
+                    parts.length > 2 ? Integer.parseInt(parts[2]) : 0,
+                    parts.length > 3 ? parts[3] : "");
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid version: " + version, ex);
+        }
+    }
+
+    @Override
+    public int compareTo(OsgiVersion other) {
+        int result = Integer.compare(this.major, other.major);
+        if (result == 0) {
+            result = Integer.compare(this.minor, other.minor);
+        }
+        if (result == 0) {
+            result = Integer.compare(this.micro, other.micro);
+        }
+        return result == 0 ? this.qualifier.compareTo(other.qualifier) : result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof OsgiVersion other && this.compareTo(other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.major, this.minor, this.micro, this.qualifier);
+    }
+
+    @Override
+    public String toString() {
+        String version = this.major + "." + this.minor + "." + this.micro;
+        return this.qualifier.isEmpty() ? version : version + "." + this.qualifier;
+    }
+}
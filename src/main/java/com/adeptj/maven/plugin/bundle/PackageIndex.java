@@ -0,0 +1,135 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of exported packages, package name to the exported versions, used for resolving the Import-Package of the
+ * bundles before they are installed. The exports of an AdeptJ instance come from the {@link ServerExports}.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class PackageIndex {
+
+    private static final String ATTR_VERSION = "version";
+
+    private static final String ATTR_SPECIFICATION_VERSION = "specification-version";
+
+    private static final String DIRECTIVE_RESOLUTION = "resolution";
+
+    private static final String RESOLUTION_OPTIONAL = "optional";
+
+    private static final String CONSOLE_VERSION_SEPARATOR = ",version=";
+
+    private final Map<String, List<OsgiVersion>> exports;
+
+    PackageIndex() {
+        this.exports = new HashMap<>();
+    }
+
+    void addExport(String name, OsgiVersion version) {
+        List<OsgiVersion> versions = this.exports.computeIfAbsent(name, key -> new ArrayList<>(1));
+        if (!versions.contains(version)) {
+            versions.add(version);
+        }
+    }
+
+    void addAll(PackageIndex index) {
+        index.exports.forEach((name, versions) -> versions.forEach(version -> this.addExport(name, version)));
+    }
+
+    /**
+     * Adds the packages from the Export-Package header of given bundle.
+     */
+    void addExports(BundleInfo info) {
+        for (ManifestClause clause : ManifestClause.parse(info.getExportPackage())) {
+            OsgiVersion version = OsgiVersion.parse(getVersion(clause));
+            clause.getPaths().forEach(name -> this.addExport(name, version));
+        }
+    }
+
+    /**
+     * Adds an exported package as listed by the OSGi Web Console bundle details, e.g.
+     * {@code org.osgi.framework,version=1.10.0}.
+     */
+    void addConsoleExport(String export) {
+        String value = StringUtils.substringBefore(StringUtils.trimToEmpty(export), " ");
+        int index = value.indexOf(CONSOLE_VERSION_SEPARATOR);
+        if (index <= 0) {
+            return;
+        }
+        try {
+            this.addExport(value.substring(0, index),
+                    OsgiVersion.parse(value.substring(index + CONSOLE_VERSION_SEPARATOR.length())));
+        } catch (IllegalArgumentException ex) {
+            // Not an exported package entry, the console marks some with a text instead.
+        }
+    }
+
+    /**
+     * Imports of given bundle which none of the exports satisfies, optional and java.* imports aside.
+     *
+     * @return the unresolved imports along with the reason, empty if all resolve.
+     */
+    List<String> getUnresolved(BundleInfo info) {
+        List<String> unresolved = new ArrayList<>();
+        for (ManifestClause clause : ManifestClause.parse(info.getImportPackage())) {
+            if (RESOLUTION_OPTIONAL.equals(clause.getDirective(DIRECTIVE_RESOLUTION))) {
+                continue;
+            }
+            VersionRange range = VersionRange.parse(getVersion(clause));
+            for (String name : clause.getPaths()) {
+                if (name.startsWith("java.")) {
+                    continue;
+                }
+                List<OsgiVersion> versions = this.exports.get(name);
+                if (versions == null) {
+                    unresolved.add(name + ";version=\"" + range + "\" is not exported by any bundle");
+                } else if (versions.stream().noneMatch(range::includes)) {
+                    unresolved.add(name + ";version=\"" + range + "\" doesn't match the exported versions "
+                            + versions);
+                }
+            }
+        }
+        return unresolved;
+    }
+
+    boolean isEmpty() {
+        return this.exports.isEmpty();
+    }
+
+    int size() {
+        return this.exports.size();
+    }
+
+    /**
+     * Version of an Import-Package or Export-Package clause, falling back to the deprecated specification-version.
+     */
+    static String getVersion(ManifestClause clause) {
+        String version = clause.getAttribute(ATTR_VERSION);
+        return version == null ? clause.getAttribute(ATTR_SPECIFICATION_VERSION) : version;
+    }
+}
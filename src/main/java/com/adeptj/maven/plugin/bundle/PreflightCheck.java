@@ -0,0 +1,146 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-flight check of the {@link BundleInstallMojo}, resolving the Import-Package of the bundles to be installed before
+ * any of them is, against the packages exported on the server as cached in {@link ServerExports}.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class PreflightCheck {
+
+    private final BundleInstallMojo mojo;
+
+    PreflightCheck(BundleInstallMojo mojo) {
+        this.mojo = mojo;
+    }
+
+    /**
+     * Resolves the Import-Package of given bundles against the packages exported on the server, by the reactor bundles
+     * and by the given bundles themselves. The unresolved imports are either raised or logged as per failOnError.
+     *
+     * @return the bundles whose imports are all resolved.
+     */
+    List<BundleInfo> resolve(ConsoleSession session, List<BundleInfo> infos) throws IOException,
+            MojoExecutionException {
+        long startTime = System.nanoTime();
+        PackageIndex serverPackages = this.getServerPackages(session);
+        if (serverPackages.isEmpty()) {
+            this.getLog().warn("Couldn't fetch the exported packages from [" + session
+                    + "], skipping the pre-flight check!!");
+            return infos;
+        }
+        PackageIndex index = new PackageIndex();
+        index.addAll(serverPackages);
+        this.mojo.getReactorBundles().forEach(index::addExports);
+        infos.forEach(index::addExports);
+        List<BundleInfo> resolved = new ArrayList<>();
+        List<String> report = new ArrayList<>();
+        for (BundleInfo info : infos) {
+            List<String> unresolved = index.getUnresolved(info);
+            if (unresolved.isEmpty()) {
+                resolved.add(info);
+            } else {
+                report.add(info + " has unresolved imports:");
+                unresolved.forEach(reason -> report.add("    " + reason));
+            }
+        }
+        this.getLog().debug(String.format("Pre-flight check of %d bundles against %d packages took %d ms",
+                infos.size(), index.size(), BundleMojoUtil.elapsedMillis(startTime)));
+        if (report.isEmpty()) {
+            return resolved;
+        }
+        String message = "Pre-flight check failed on [" + session + "], " + (infos.size() - resolved.size())
+                + " bundles won't resolve!!" + System.lineSeparator() + String.join(System.lineSeparator(), report);
+        if (session.isFailOnError()) {
+            throw new MojoExecutionException(message);
+        }
+        this.getLog().error(message);
+        return resolved;
+    }
+
+    /**
+     * Packages exported on the server, as per the {@link ServerExports} cached for
+     * {@link BundleInstallMojo#preflightCacheTtl}, of which only the bundles installed, updated or uninstalled since
+     * are fetched again.
+     */
+    private PackageIndex getServerPackages(ConsoleSession session) throws IOException, MojoExecutionException {
+        Path file = this.getServerExportsFile(session);
+        ServerExports exports = ServerExports.load(file);
+        if (exports == null || exports.isExpired(TimeUnit.SECONDS.toMillis(this.mojo.preflightCacheTtl))) {
+            exports = new ServerExports();
+        }
+        long startTime = System.nanoTime();
+        List<RemoteBundle> bundles = session.getInstalledBundles();
+        List<RemoteBundle> changed = new ArrayList<>();
+        for (RemoteBundle bundle : bundles) {
+            if (!exports.isCurrent(bundle)) {
+                changed.add(bundle);
+            }
+        }
+        // The details are fetched concurrently, at most as many at a time as there are connections to the server.
+        try (TaskEngine engine = new TaskEngine(this.mojo.getMaxConnections())) {
+            List<Future<RemoteBundle>> futures = new ArrayList<>();
+            for (RemoteBundle bundle : changed) {
+                futures.add(engine.fork(session.getBaseUrl(), () -> session.getRemoteBundle(bundle.getId())));
+            }
+            engine.join();
+            for (Future<RemoteBundle> future : futures) {
+                RemoteBundle details = future.resultNow();
+                if (details != null) {
+                    exports.put(details);
+                }
+            }
+        }
+        boolean uninstalled = exports.retain(bundles);
+        this.getLog().debug(String.format("Fetched the exported packages of %d of %d bundles from [%s] in %d ms",
+                changed.size(), bundles.size(), session, BundleMojoUtil.elapsedMillis(startTime)));
+        if (!changed.isEmpty() || uninstalled) {
+            exports.store(file);
+        }
+        return exports.toIndex();
+    }
+
+    private Path getServerExportsFile(ConsoleSession session) {
+        return ServerExports.getFile(this.mojo.preflightCacheDirectory.toPath(), session.getBaseUrl());
+    }
+
+    /**
+     * Drops the cached exports of given bundle, installed or updated on the server.
+     */
+    void invalidate(ConsoleSession session, String symbolicName) throws IOException {
+        ServerExports.invalidate(this.getServerExportsFile(session), symbolicName);
+    }
+
+    private Log getLog() {
+        return this.mojo.getLog();
+    }
+}
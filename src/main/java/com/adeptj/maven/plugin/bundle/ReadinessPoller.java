@@ -0,0 +1,118 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static com.adeptj.maven.plugin.bundle.Constants.READINESS_INITIAL_DELAY_MILLIS;
+import static com.adeptj.maven.plugin.bundle.Constants.READINESS_MAX_DELAY_MILLIS;
+
+/**
+ * Polls the state of the AdeptJ instance, with exponential backoff, until a bundle is active or the framework has
+ * settled, failing once the given timeout is over.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class ReadinessPoller {
+
+    private final int timeoutSeconds;
+
+    ReadinessPoller(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    /**
+     * Polls until given bundle is active and the required services are registered.
+     *
+     * @return the time to active in milliseconds.
+     * @throws MojoExecutionException if the bundle didn't become active within the timeout.
+     */
+    long awaitActive(ConsoleSession session, BundleInfo info, List<String> requiredServices) throws IOException,
+            MojoExecutionException {
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.SECONDS.toNanos(this.timeoutSeconds);
+        long delay = READINESS_INITIAL_DELAY_MILLIS;
+        RemoteBundle remote;
+        Set<String> missingServices = Set.of();
+        while (true) {
+            remote = session.getRemoteBundle(info.getSymbolicName());
+            if (remote != null && remote.isReady()) {
+                missingServices = getMissingServices(session, requiredServices);
+                if (missingServices.isEmpty()) {
+                    return BundleMojoUtil.elapsedMillis(startTime);
+                }
+            }
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) > deadline) {
+                break;
+            }
+            BundleMojoUtil.sleep(delay);
+            delay = Math.min(delay * 2, READINESS_MAX_DELAY_MILLIS);
+        }
+        throw new MojoExecutionException(String.format(
+                "%s didn't become active on [%s] within %d seconds, state: [%s], missing services: %s", info, session,
+                this.timeoutSeconds, remote == null ? "not installed" : remote.getState(), missingServices));
+    }
+
+    /**
+     * Polls until no bundle is starting or stopping and the bundle states are the same in two consecutive polls.
+     *
+     * @throws MojoExecutionException if the framework didn't settle within the timeout.
+     */
+    void awaitSettled(ConsoleSession session) throws IOException, MojoExecutionException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.timeoutSeconds);
+        long delay = READINESS_INITIAL_DELAY_MILLIS;
+        Map<Long, Integer> previous = null;
+        while (true) {
+            List<RemoteBundle> bundles = session.getRemoteBundles();
+            Map<Long, Integer> states = new HashMap<>();
+            bundles.forEach(bundle -> states.put(bundle.getId(), bundle.getStateRaw()));
+            if (states.equals(previous) && bundles.stream().noneMatch(RemoteBundle::isTransitioning)) {
+                return;
+            }
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) > deadline) {
+                break;
+            }
+            previous = states;
+            BundleMojoUtil.sleep(delay);
+            delay = Math.min(delay * 2, READINESS_MAX_DELAY_MILLIS);
+        }
+        throw new MojoExecutionException(String.format("Framework on [%s] didn't settle within %d seconds after the"
+                + " packages refresh!!", session, this.timeoutSeconds));
+    }
+
+    private static Set<String> getMissingServices(ConsoleSession session, List<String> requiredServices)
+            throws IOException {
+        if (requiredServices == null || requiredServices.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> registered = session.getServiceTypes();
+        Set<String> missing = new TreeSet<>(requiredServices);
+        missing.removeAll(registered);
+        return missing;
+    }
+}
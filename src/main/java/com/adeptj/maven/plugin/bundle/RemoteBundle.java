@@ -0,0 +1,164 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.util.List;
+
+/**
+ * A bundle as reported by the OSGi Web Console of a running AdeptJ Runtime instance.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class RemoteBundle {
+
+    static final int STATE_UNINSTALLED = 1;
+
+    static final int STATE_INSTALLED = 2;
+
+    static final int STATE_RESOLVED = 4;
+
+    static final int STATE_STARTING = 8;
+
+    static final int STATE_STOPPING = 16;
+
+    static final int STATE_ACTIVE = 32;
+
+    private long id = -1;
+
+    private String symbolicName;
+
+    private String version;
+
+    private String state;
+
+    private int stateRaw;
+
+    private String lastModified;
+
+    private boolean fragment;
+
+    private List<String> exportedPackages = List.of();
+
+    long getId() {
+        return id;
+    }
+
+    void setId(long id) {
+        this.id = id;
+    }
+
+    String getSymbolicName() {
+        return symbolicName;
+    }
+
+    void setSymbolicName(String symbolicName) {
+        this.symbolicName = symbolicName;
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    void setVersion(String version) {
+        this.version = version;
+    }
+
+    String getState() {
+        return state;
+    }
+
+    void setState(String state) {
+        this.state = state;
+    }
+
+    int getStateRaw() {
+        return stateRaw;
+    }
+
+    void setStateRaw(int stateRaw) {
+        this.stateRaw = stateRaw;
+    }
+
+    String getLastModified() {
+        return lastModified;
+    }
+
+    void setLastModified(String lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    boolean isFragment() {
+        return fragment;
+    }
+
+    void setFragment(boolean fragment) {
+        this.fragment = fragment;
+    }
+
+    /**
+     * Exported packages, e.g. {@code org.osgi.framework,version=1.10.0}, only listed in the bundle details.
+     */
+    List<String> getExportedPackages() {
+        return exportedPackages;
+    }
+
+    void setExportedPackages(List<String> exportedPackages) {
+        this.exportedPackages = exportedPackages;
+    }
+
+    boolean isActive() {
+        return this.stateRaw == STATE_ACTIVE;
+    }
+
+    /**
+     * Whether the bundle is being started or stopped, e.g. by a packages refresh.
+     */
+    boolean isTransitioning() {
+        return this.stateRaw == STATE_STARTING || this.stateRaw == STATE_STOPPING;
+    }
+
+    /**
+     * Fragments never become active, a resolved fragment is as good as an active bundle.
+     */
+    boolean isReady() {
+        return this.isActive() || (this.fragment && this.stateRaw == STATE_RESOLVED);
+    }
+
+    /**
+     * Name of the given OSGi bundle state, as the console shows it.
+     */
+    static String getStateName(int stateRaw) {
+        return switch (stateRaw) {
+            case STATE_UNINSTALLED -> "Uninstalled";
+            case STATE_INSTALLED -> "Installed";
+            case STATE_RESOLVED -> "Resolved";
+            case STATE_STARTING -> "Starting";
+            case STATE_STOPPING -> "Stopping";
+            case STATE_ACTIVE -> "Active";
+            default -> "Unknown (" + stateRaw + ")";
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteBundle [" + this.symbolicName + " (" + this.id + "), version: " + this.version
+                + ", state: " + this.state + "]";
+    }
+}
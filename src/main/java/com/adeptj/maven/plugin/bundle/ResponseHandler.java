@@ -20,17 +20,55 @@
 package com.adeptj.maven.plugin.bundle;
 
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * ResponseHandler.
+ * <p>
+ * Captures up to the given number of bytes of the body, and parses the console's JSON result out of them, for
+ * reporting what the server said. The rest of the body is never buffered, it is left for the HttpClient to discard.
  *
  * @author Rakesh Kumar, AdeptJ
  */
 public class ResponseHandler implements HttpClientResponseHandler<ClientResponse> {
 
+    private final int maxBodyBytes;
+
+    public ResponseHandler() {
+        this(0);
+    }
+
+    ResponseHandler(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
     @Override
-    public ClientResponse handleResponse(ClassicHttpResponse response) {
-        return new ClientResponse(response);
+    public ClientResponse handleResponse(ClassicHttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        if (entity == null || this.maxBodyBytes <= 0) {
+            return new ClientResponse(response);
+        }
+        byte[] prefix;
+        boolean truncated;
+        try (InputStream stream = entity.getContent()) {
+            prefix = stream.readNBytes(this.maxBodyBytes);
+            truncated = stream.read() != -1;
+        }
+        ContentType contentType = ContentType.parseLenient(entity.getContentType());
+        Charset charset = contentType == null ? UTF_8 : contentType.getCharset(UTF_8);
+        ClientResponse.ConsoleResult result = null;
+        if (contentType != null && ContentType.APPLICATION_JSON.isSameMimeType(contentType)) {
+            result = ConsoleJson.parseResult(new ByteArrayInputStream(prefix));
+        }
+        return new ClientResponse(response, new String(prefix, charset), truncated, result);
     }
 }
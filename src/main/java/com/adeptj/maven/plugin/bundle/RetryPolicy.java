@@ -0,0 +1,175 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.NoHttpResponseException;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apache.hc.core5.http.HttpStatus.SC_BAD_GATEWAY;
+import static org.apache.hc.core5.http.HttpStatus.SC_GATEWAY_TIMEOUT;
+import static org.apache.hc.core5.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+import static org.apache.hc.core5.http.HttpStatus.SC_TOO_MANY_REQUESTS;
+
+/**
+ * Retry policy of an operation against the transient failures of the AdeptJ server, such as a 502 or 503 while the
+ * container restarts or a connection reset, configured via the {@code loginRetry}, {@code installRetry} and
+ * {@code uninstallRetry} mojo parameters.
+ * <p>
+ * The delay before a retry doubles from {@link #initialDelay} up to {@link #maxDelay} and is jittered, so that the
+ * concurrent uploads don't retry in lockstep. A longer Retry-After sent by the server takes precedence.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class RetryPolicy {
+
+    /**
+     * Attempts, the first one included, 1 means no retry.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Delay, in milliseconds, before the first retry.
+     */
+    private long initialDelay = 500;
+
+    /**
+     * Max delay, in milliseconds, between two attempts unless the server asks for more.
+     */
+    private long maxDelay = 10_000;
+
+    public RetryPolicy() {
+    }
+
+    RetryPolicy(int maxAttempts, long initialDelay, long maxDelay) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Delay, in milliseconds, before the retry following given failed attempt, counted from 1.
+     *
+     * @param response the response of the failed attempt, null if it failed with an I/O error.
+     */
+    long getDelayMillis(int attempt, ClientResponse response) {
+        long ceiling = Math.max(0, Math.min(this.maxDelay, this.initialDelay << Math.min(attempt - 1, 30)));
+        // Equal jitter, i.e. at least half of the exponential delay.
+        long delay = ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+        return Math.max(delay, getRetryAfterMillis(response));
+    }
+
+    /**
+     * Whether given response is a transient failure, the server being restarted, overloaded or behind a proxy which
+     * can't reach it.
+     */
+    static boolean isTransient(ClientResponse response) {
+        return isTransient(response.getCode());
+    }
+
+    static boolean isTransient(int status) {
+        return switch (status) {
+            case SC_TOO_MANY_REQUESTS, SC_BAD_GATEWAY, SC_SERVICE_UNAVAILABLE, SC_GATEWAY_TIMEOUT -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Whether given I/O error may well not happen again, only a transport failure, i.e. a refused, reset or timed out
+     * connection or one closed without a response, or a transient console failure status is. Any other error, e.g. a
+     * local file error, a protocol error, an unknown host, a TLS handshake failure or an interrupt, isn't.
+     */
+    static boolean isTransient(IOException ex) {
+        if (ex instanceof ConsoleException console) {
+            return isTransient(console.getResponse());
+        }
+        // ConnectException, the HttpHostConnectException included, is a SocketException too.
+        return ex instanceof SocketException
+                || ex instanceof SocketTimeoutException
+                || ex instanceof ConnectTimeoutException
+                || ex instanceof NoHttpResponseException;
+    }
+
+    /**
+     * The Retry-After, in delay seconds or as HTTP date, of given response in milliseconds, 0 if there is none.
+     */
+    static long getRetryAfterMillis(ClientResponse response) {
+        Header header = response == null ? null : response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        String value = header == null ? null : StringUtils.trimToNull(header.getValue());
+        if (value == null) {
+            return 0;
+        }
+        if (StringUtils.isNumeric(value)) {
+            return Long.parseLong(value) * 1000;
+        }
+        Instant date = DateUtils.parseStandardDate(value);
+        return date == null ? 0 : Math.max(0, Duration.between(Instant.now(), date).toMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy [maxAttempts: " + this.maxAttempts + ", initialDelay: " + this.initialDelay
+                + " ms, maxDelay: " + this.maxDelay + " ms]";
+    }
+
+    /**
+     * Tells, before a retry, whether the failed attempt has taken effect on the server after all. A state that couldn't
+     * be read must be raised, never taken as applied, so that the request is retried.
+     */
+    @FunctionalInterface
+    interface Check {
+
+        boolean isApplied() throws IOException;
+    }
+}
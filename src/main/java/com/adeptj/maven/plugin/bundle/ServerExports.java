@@ -0,0 +1,214 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Packages exported on an AdeptJ instance, per bundle, persisted per base url along with the time they were fetched
+ * at, so that the details of only the bundles installed, updated or uninstalled since then are fetched again.
+ * <p>
+ * A bundle is taken for unchanged as long as its id and version are, the installs done by the plugin invalidate the
+ * bundle as the version of an updated SNAPSHOT stays the same.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+class ServerExports {
+
+    private static final String KEY_CREATED = "@created";
+
+    private static final String KEY_ID = ".id";
+
+    private static final String KEY_VERSION = ".version";
+
+    private static final String KEY_EXPORTS = ".exports";
+
+    private static final String EXPORTS_SEPARATOR = ";";
+
+    /**
+     * Guards the invalidation by the concurrent installs, each reading and replacing the file.
+     */
+    private static final Lock FILE_LOCK = new ReentrantLock();
+
+    private final Map<String, Entry> bundles;
+
+    private final long created;
+
+    ServerExports() {
+        this(new HashMap<>(), System.currentTimeMillis());
+    }
+
+    private ServerExports(Map<String, Entry> bundles, long created) {
+        this.bundles = bundles;
+        this.created = created;
+    }
+
+    /**
+     * Whether the exports of given bundle, as listed by bundles.json, are known and still current.
+     */
+    boolean isCurrent(RemoteBundle bundle) {
+        Entry entry = this.bundles.get(bundle.getSymbolicName());
+        return entry != null && entry.id == bundle.getId() && Objects.equals(entry.version, bundle.getVersion());
+    }
+
+    /**
+     * Puts the exports of given bundle, as per its details.
+     */
+    void put(RemoteBundle details) {
+        List<String> exports = details.getExportedPackages().stream()
+                .map(export -> StringUtils.substringBefore(StringUtils.trimToEmpty(export), " "))
+                .filter(StringUtils::isNotEmpty)
+                .toList();
+        this.bundles.put(details.getSymbolicName(), new Entry(details.getId(), details.getVersion(), exports));
+    }
+
+    /**
+     * Drops the bundles which aren't installed anymore.
+     *
+     * @return whether any bundle was dropped.
+     */
+    boolean retain(Collection<RemoteBundle> installed) {
+        Set<String> symbolicNames = installed.stream()
+                .map(RemoteBundle::getSymbolicName)
+                .collect(Collectors.toSet());
+        return this.bundles.keySet().retainAll(symbolicNames);
+    }
+
+    PackageIndex toIndex() {
+        PackageIndex index = new PackageIndex();
+        this.bundles.values().forEach(entry -> entry.exports.forEach(index::addConsoleExport));
+        return index;
+    }
+
+    int size() {
+        return this.bundles.size();
+    }
+
+    boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - this.created > ttlMillis;
+    }
+
+    /**
+     * Loads the exports persisted in given file, null if there are none.
+     */
+    static ServerExports load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream stream = Files.newInputStream(file)) {
+            properties.load(stream);
+        }
+        Map<String, Entry> bundles = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.endsWith(KEY_ID)) {
+                continue;
+            }
+            String symbolicName = StringUtils.removeEnd(key, KEY_ID);
+            String exports = properties.getProperty(symbolicName + KEY_EXPORTS, "");
+            bundles.put(symbolicName, new Entry(Long.parseLong(properties.getProperty(key)),
+                    properties.getProperty(symbolicName + KEY_VERSION),
+                    exports.isEmpty() ? List.of() : List.of(exports.split(EXPORTS_SEPARATOR))));
+        }
+        return new ServerExports(bundles, Long.parseLong(properties.getProperty(KEY_CREATED, "0")));
+    }
+
+    void store(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(KEY_CREATED, String.valueOf(this.created));
+        this.bundles.forEach((symbolicName, entry) -> {
+            properties.setProperty(symbolicName + KEY_ID, String.valueOf(entry.id));
+            if (entry.version != null) {
+                properties.setProperty(symbolicName + KEY_VERSION, entry.version);
+            }
+            properties.setProperty(symbolicName + KEY_EXPORTS, String.join(EXPORTS_SEPARATOR, entry.exports));
+        });
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "server-exports", ".tmp");
+        try (OutputStream stream = Files.newOutputStream(temp)) {
+            properties.store(stream, "AdeptJ Maven Plugin exported packages");
+        }
+        Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    /**
+     * Drops given bundle from the exports persisted in given file, for them to be fetched again.
+     */
+    static void invalidate(Path file, String symbolicName) throws IOException {
+        FILE_LOCK.lock();
+        try {
+            ServerExports exports = load(file);
+            if (exports != null && exports.bundles.remove(symbolicName) != null) {
+                exports.store(file);
+            }
+        } finally {
+            FILE_LOCK.unlock();
+        }
+    }
+
+    /**
+     * File, in given directory, of the exports of given AdeptJ instance.
+     */
+    static Path getFile(Path directory, String baseUrl) {
+        byte[] key = baseUrl.getBytes(UTF_8);
+        return directory.resolve(HexFormat.of().formatHex(BundleMojoUtil.newMessageDigest().digest(key))
+                + ".exports");
+    }
+
+    /**
+     * Exports of a single bundle, along with the id and version they were fetched for.
+     */
+    private static final class Entry {
+
+        private final long id;
+
+        private final String version;
+
+        private final List<String> exports;
+
+        Entry(long id, String version, List<String> exports) {
+            this.id = id;
+            this.version = version;
+            this.exports = exports;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+/**
+ * An AdeptJ Runtime instance the bundles are deployed to, configured via the {@code targets} mojo parameter.
+ * <p>
+ * The user, password and server adapter default to the ones configured on the mojo when not given.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class ServerTarget {
+
+    private String baseUrl;
+
+    private String user;
+
+    private String password;
+
+    private String serverAdapter;
+
+    public ServerTarget() {
+    }
+
+    ServerTarget(String baseUrl, String user, String password, String serverAdapter) {
+        this.baseUrl = baseUrl;
+        this.user = user;
+        this.password = password;
+        this.serverAdapter = serverAdapter;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public String getServerAdapter() {
+        return serverAdapter;
+    }
+
+    public void setServerAdapter(String serverAdapter) {
+        this.serverAdapter = serverAdapter;
+    }
+
+    @Override
+    public String toString() {
+        return this.baseUrl;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
+import org.apache.hc.client5.http.cookie.Cookie;
+import org.apache.hc.client5.http.impl.cookie.BasicClientCookie;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.adeptj.maven.plugin.bundle.Constants.COOKIE_JSESSIONID;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Cache of the authenticated AdeptJ server sessions, keyed by base url and user.
+ * <p>
+ * The in memory cache lives as long as the plugin's class realm, i.e. the Maven session, so that the mojo executions
+ * of all the modules can share a single login. Optionally the session cookies are persisted to a file, readable only
+ * by the owner, so that the consecutive builds can reuse them as well.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class SessionCache {
+
+    private static final Map<String, List<Cookie>> SESSIONS = new ConcurrentHashMap<>();
+
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private SessionCache() {
+    }
+
+    static List<Cookie> get(String baseUrl, String user, Path file) throws IOException {
+        String key = toKey(baseUrl, user);
+        List<Cookie> cookies = SESSIONS.get(key);
+        if (cookies == null && file != null) {
+            cookies = load(file, key);
+            if (!cookies.isEmpty()) {
+                SESSIONS.put(key, cookies);
+            }
+        }
+        return cookies == null ? List.of() : cookies;
+    }
+
+    static void put(String baseUrl, String user, List<Cookie> cookies, Path file) throws IOException {
+        String key = toKey(baseUrl, user);
+        List<Cookie> sessionCookies = cookies.stream()
+                .filter(cookie -> Strings.CS.startsWith(cookie.getName(), COOKIE_JSESSIONID))
+                .toList();
+        SESSIONS.put(key, sessionCookies);
+        if (file != null) {
+            store(file, key, sessionCookies);
+        }
+    }
+
+    static void remove(String baseUrl, String user, Path file) throws IOException {
+        String key = toKey(baseUrl, user);
+        SESSIONS.remove(key);
+        if (file != null && Files.isRegularFile(file)) {
+            store(file, key, List.of());
+        }
+    }
+
+    private static List<Cookie> load(Path file, String key) throws IOException {
+        List<Cookie> cookies = new ArrayList<>();
+        if (!Files.isRegularFile(file)) {
+            return cookies;
+        }
+        Properties properties = loadProperties(file);
+        for (int index = 0; ; index++) {
+            String value = properties.getProperty(key + "." + index);
+            if (value == null) {
+                break;
+            }
+            String[] fields = value.split(FIELD_SEPARATOR, -1);
+            if (fields.length < 5) {
+                continue;
+            }
+            BasicClientCookie cookie = new BasicClientCookie(fields[0], fields[1]);
+            cookie.setDomain(StringUtils.defaultIfEmpty(fields[2], null));
+            cookie.setPath(StringUtils.defaultIfEmpty(fields[3], null));
+            cookie.setSecure(Boolean.parseBoolean(fields[4]));
+            if (fields.length > 5 && StringUtils.isNotEmpty(fields[5])) {
+                cookie.setExpiryDate(Instant.ofEpochMilli(Long.parseLong(fields[5])));
+            }
+            cookies.add(cookie);
+        }
+        return cookies;
+    }
+
+    private static synchronized void store(Path file, String key, List<Cookie> cookies) throws IOException {
+        Properties properties = Files.isRegularFile(file) ? loadProperties(file) : new Properties();
+        properties.stringPropertyNames()
+                .stream()
+                .filter(name -> Strings.CS.startsWith(name, key + "."))
+                .forEach(properties::remove);
+        for (int index = 0; index < cookies.size(); index++) {
+            Cookie cookie = cookies.get(index);
+            properties.setProperty(key + "." + index, String.join(FIELD_SEPARATOR,
+                    cookie.getName(),
+                    cookie.getValue(),
+                    StringUtils.defaultString(cookie.getDomain()),
+                    StringUtils.defaultString(cookie.getPath()),
+                    String.valueOf(cookie.isSecure()),
+                    cookie.getExpiryInstant() == null ? "" : String.valueOf(cookie.getExpiryInstant().toEpochMilli())));
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "sessions", ".tmp");
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+        }
+        try (OutputStream stream = Files.newOutputStream(temp)) {
+            properties.store(stream, "AdeptJ Maven Plugin sessions");
+        }
+        Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    private static Properties loadProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream stream = Files.newInputStream(file)) {
+            properties.load(stream);
+        }
+        return properties;
+    }
+
+    private static String toKey(String baseUrl, String user) {
+        return baseUrl + "|" + user;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs independent console operations, e.g. the per bundle uploads, the per target deploys and the state polls,
+ * concurrently on virtual threads with structured concurrency semantics: the tasks forked are joined before the
+ * engine is closed, and a task failing with an exception cancels the others.
+ * <p>
+ * The tasks run at most the given number at a time per AdeptJ instance, so that an instance isn't flooded however
+ * many tasks are forked for it. StructuredTaskScope being a preview API on Java 21, this is its small equivalent.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class TaskEngine implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    private final int maxPerHost;
+
+    private final Map<String, Semaphore> permits;
+
+    private final List<Task<?>> futures;
+
+    private final List<Exception> failures;
+
+    private volatile boolean cancelled;
+
+    TaskEngine(int maxPerHost) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("adeptj-task-", 0).factory());
+        this.maxPerHost = Math.max(1, maxPerHost);
+        this.permits = new ConcurrentHashMap<>();
+        this.futures = new CopyOnWriteArrayList<>();
+        this.failures = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Forks given task, to run once one of the permits of given AdeptJ instance is available.
+     * <p>
+     * An exception thrown by the task is fatal: the other tasks are cancelled and {@link #join()} throws it. The
+     * failures to be tolerated must be returned, e.g. as a failed {@link BundleResult}, rather than thrown.
+     */
+    <T> Future<T> fork(String baseUrl, Callable<T> task) {
+        Task<T> future = new Task<>(() -> this.run(baseUrl, task));
+        this.executor.execute(future);
+        this.futures.add(future);
+        if (this.cancelled) {
+            future.cancel(true);
+        }
+        return future;
+    }
+
+    private <T> T run(String baseUrl, Callable<T> task) throws Exception {
+        Semaphore semaphore = this.permits.computeIfAbsent(baseUrl, key -> new Semaphore(this.maxPerHost));
+        semaphore.acquire();
+        try {
+            return task.call();
+        } catch (Exception ex) {
+            // The interruptions of the tasks being cancelled are caused by another failure, not worth reporting.
+            if (!this.cancelled || !(ex instanceof InterruptedException || ex instanceof InterruptedIOException)) {
+                this.failures.add(ex);
+                this.cancel();
+            }
+            throw ex;
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Waits for all the tasks forked so far to complete.
+     *
+     * @throws IOException            the first task failure, the others are added to it as suppressed, failures
+     *                                other than IOException, MojoExecutionException and RuntimeException are wrapped.
+     * @throws MojoExecutionException the first task failure, as above.
+     */
+    void join() throws IOException, MojoExecutionException {
+        for (Task<?> future : this.futures) {
+            try {
+                // A cancelled task may still be running, and failing, until it sees the interruption.
+                future.finished.await();
+                future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                this.cancel();
+                throw new InterruptedIOException("Interrupted while waiting for the tasks to complete!!");
+            } catch (ExecutionException | CancellationException ex) {
+                // Recorded by the task, or cancelled because of another one's failure.
+            }
+        }
+        if (this.failures.isEmpty()) {
+            return;
+        }
+        Exception failure = this.failures.get(0);
+        this.failures.stream().skip(1).forEach(failure::addSuppressed);
+        switch (failure) {
+            case IOException ex -> throw ex;
+            case MojoExecutionException ex -> throw ex;
+            case RuntimeException ex -> throw ex;
+            default -> throw new IOException(failure);
+        }
+    }
+
+    private void cancel() {
+        this.cancelled = true;
+        this.futures.forEach(future -> future.cancel(true));
+    }
+
+    /**
+     * Cancels the tasks still running, e.g. when the caller failed before joining, and waits for them to finish.
+     */
+    @Override
+    public void close() {
+        if (this.futures.stream().anyMatch(future -> !future.isDone())) {
+            this.cancel();
+        }
+        this.executor.close();
+    }
+
+    /**
+     * A task telling when its thread is done with it, even if it was cancelled before or while running.
+     */
+    private static final class Task<T> extends FutureTask<T> {
+
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        Task(Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                this.finished.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_SERVER_RESPONSE;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_UNINSTALL;
+import static com.adeptj.maven.plugin.bundle.DeployMetrics.PHASE_UPLOAD;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Timings of earlier deployments, read from the CSV history of {@link DeployMetrics}, for estimating how long an
+ * install or uninstall takes on an AdeptJ instance. The timings of all the instances are used for an instance with
+ * none.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class TimingHistory {
+
+    private static final String ALL_TARGETS = "";
+
+    private static final int COLUMN_TARGET = 2;
+
+    private static final int COLUMN_PHASE = 4;
+
+    private static final int COLUMN_MILLIS = 5;
+
+    private static final int COLUMN_BYTES = 6;
+
+    /**
+     * Per target and phase: samples, millis and bytes.
+     */
+    private final Map<String, Map<String, long[]>> totals = new HashMap<>();
+
+    private TimingHistory() {
+    }
+
+    /**
+     * Loads the timings from given CSV report, there are none if it doesn't exist.
+     */
+    static TimingHistory load(Path file) throws IOException {
+        TimingHistory history = new TimingHistory();
+        if (!Files.isRegularFile(file)) {
+            return history;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+            // The header.
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                List<String> columns = split(line);
+                if (columns.size() <= COLUMN_BYTES) {
+                    continue;
+                }
+                try {
+                    long millis = Long.parseLong(columns.get(COLUMN_MILLIS));
+                    long bytes = Long.parseLong(columns.get(COLUMN_BYTES));
+                    history.add(columns.get(COLUMN_TARGET), columns.get(COLUMN_PHASE), millis, bytes);
+                    history.add(ALL_TARGETS, columns.get(COLUMN_PHASE), millis, bytes);
+                } catch (NumberFormatException ex) {
+                    // Not a sample row.
+                }
+            }
+        }
+        return history;
+    }
+
+    private void add(String target, String phase, long millis, long bytes) {
+        long[] total = this.totals.computeIfAbsent(target, key -> new HashMap<>())
+                .computeIfAbsent(phase, key -> new long[3]);
+        total[0]++;
+        total[1] += millis;
+        total[2] += bytes;
+    }
+
+    boolean isEmpty() {
+        return this.totals.isEmpty();
+    }
+
+    /**
+     * Estimated time of uploading a bundle of given size and of the server installing it, -1 if not known.
+     */
+    long estimateInstall(String target, long bytes) {
+        long[] upload = this.getTotal(target, PHASE_UPLOAD);
+        long[] response = this.getTotal(target, PHASE_SERVER_RESPONSE);
+        if (upload == null || response == null || upload[2] == 0) {
+            return -1;
+        }
+        // Time per byte as observed, the upload time being dominated by the transfer.
+        return Math.round((double) bytes * upload[1] / upload[2]) + response[1] / response[0];
+    }
+
+    /**
+     * Estimated time of uninstalling a bundle, -1 if not known.
+     */
+    long estimateUninstall(String target) {
+        long[] uninstall = this.getTotal(target, PHASE_UNINSTALL);
+        return uninstall == null ? -1 : uninstall[1] / uninstall[0];
+    }
+
+    private long[] getTotal(String target, String phase) {
+        long[] total = this.totals.getOrDefault(target, Map.of()).get(phase);
+        return total == null ? this.totals.getOrDefault(ALL_TARGETS, Map.of()).get(phase) : total;
+    }
+
+    /**
+     * Splits a CSV line, the quoted values may contain commas and doubled quotes.
+     */
+    static List<String> split(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char ch = line.charAt(index);
+            if (quoted) {
+                if (ch == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    column.append(ch);
+                    index++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    column.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(ch);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+/**
+ * Flavors of the {@link HttpTransport}.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+enum TransportType {
+
+    /**
+     * Classic (blocking) HttpClient over HTTP/1.1.
+     */
+    CLASSIC,
+
+    /**
+     * Async HttpClient over HTTP/1.1, or HTTP/2 when negotiated via TLS ALPN.
+     */
+    ASYNC,
+
+    /**
+     * Async HttpClient over HTTP/2 only (h2c prior knowledge for plain http), all requests to an AdeptJ instance are
+     * multiplexed over a single connection.
+     */
+    HTTP2
+}
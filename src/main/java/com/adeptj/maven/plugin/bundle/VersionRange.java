@@ -0,0 +1,90 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2025, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * OSGi version range, e.g. {@code [1.2,2)}, a single version is the range from that version up to infinity.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class VersionRange {
+
+    static final VersionRange ANY = new VersionRange(OsgiVersion.EMPTY, true, null, false);
+
+    private final OsgiVersion floor;
+
+    private final boolean floorInclusive;
+
+    private final OsgiVersion ceiling;
+
+    private final boolean ceilingInclusive;
+
+    private VersionRange(OsgiVersion floor, boolean floorInclusive, OsgiVersion ceiling, boolean ceilingInclusive) {
+        this.floor = floor;
+        this.floorInclusive = floorInclusive;
+        this.ceiling = ceiling;
+        this.ceilingInclusive = ceilingInclusive;
+    }
+
+    /**
+     * Parses the range, an empty or null range matches any version.
+     *
+     * @throws IllegalArgumentException if the range is malformed.
+     */
+    static VersionRange parse(String range) {
+        String value = StringUtils.strip(StringUtils.trimToEmpty(range), "\"").trim();
+        if (value.isEmpty()) {
+            return ANY;
+        }
+        char start = value.charAt(0);
+        if (start != '[' && start != '(') {
+            return new VersionRange(OsgiVersion.parse(value), true, null, false);
+        }
+        char end = value.charAt(value.length() - 1);
+        String[] bounds = value.substring(1, value.length() - 1).split(",");
+        if ((end != ']' && end != ')') || bounds.length != 2) {
+            throw new IllegalArgumentException("Invalid version range: " + range);
+        }
+        return new VersionRange(OsgiVersion.parse(bounds[0]), start == '[', OsgiVersion.parse(bounds[1]), end == ']');
+    }
+
+    boolean includes(OsgiVersion version) {
+        int floorComparison = version.compareTo(this.floor);
+        if (floorComparison < 0 || (floorComparison == 0 && !this.floorInclusive)) {
+            return false;
+        }
+        if (this.ceiling == null) {
+            return true;
+        }
+        int ceilingComparison = version.compareTo(this.ceiling);
+        return ceilingComparison < 0 || (ceilingComparison == 0 && this.ceilingInclusive);
+    }
+
+    @Override
+    public String toString() {
+        if (this.ceiling == null) {
+            return this.floor.toString();
+        }
+        return (this.floorInclusive ? "[" : "(") + this.floor + "," + this.ceiling
+                + (this.ceilingInclusive ? "]" : ")");
+    }
+}
@@ -0,0 +1,72 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Test cases for {@link BundleEntryIndex}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleEntryIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testDelta() throws IOException {
+        File v1 = this.createJar("v1.jar", Map.of("a.class", "a", "b.class", "b", "c.class", "c"));
+        File v2 = this.createJar("v2.jar", Map.of("a.class", "a", "b.class", "b2", "d.class", "d"));
+        Path indexFile = BundleEntryIndex.getFile(this.directory, "http://localhost:8080", "com.adeptj.example");
+        BundleEntryIndex.of(BundleInfo.of(v1)).store(indexFile);
+        BundleEntryIndex base = BundleEntryIndex.load(indexFile);
+        assertNotNull(base);
+        assertEquals(BundleInfo.of(v1).getDigest(), base.getDigest());
+        BundleEntryIndex current = BundleEntryIndex.of(BundleInfo.of(v2));
+        List<String> changed = current.getChanged(base);
+        assertEquals(List.of("b.class", "d.class"), changed.stream().sorted().toList());
+        assertEquals(List.of("c.class"), current.getRemoved(base));
+        Path patch = this.directory.resolve("patch.jar");
+        BundleEntryIndex.writePatch(v2, changed, patch);
+        try (JarFile jar = new JarFile(patch.toFile())) {
+            assertEquals(2, jar.size());
+            assertEquals("b2", new String(jar.getInputStream(jar.getEntry("b.class")).readAllBytes(), UTF_8));
+        }
+    }
+
+    private File createJar(String name, Map<String, String> entries) throws IOException {
+        return TestBundles.writeJar(this.directory.resolve(name), TestBundles.headers(Constants.BUNDLE_NAME, "Example",
+                Constants.BUNDLE_SYMBOLIC_NAME, "com.adeptj.example"), entries, ZipEntry.DEFLATED);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link BundleGraph}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleGraphTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGetLayers() throws IOException {
+        BundleInfo web = this.createBundle("web", null, "com.adeptj.api,com.adeptj.impl", null);
+        BundleInfo fragment = this.createBundle("fragment", null, null, "com.adeptj.impl");
+        BundleInfo impl = this.createBundle("impl", "com.adeptj.impl", "com.adeptj.api;version=\"[1.0,2)\","
+                + "com.adeptj.legacy;version=\"[2.0,3)\"", null);
+        BundleInfo api = this.createBundle("api", "com.adeptj.api;version=1.2.0", "com.adeptj.api", null);
+        BundleInfo legacy = this.createBundle("legacy", "com.adeptj.legacy;version=1.0.0", null, null);
+        BundleGraph graph = BundleGraph.of(List.of(web, fragment, impl, api, legacy));
+        assertEquals(List.of(List.of(api, legacy), List.of(impl), List.of(web, fragment)), graph.getLayers());
+        assertEquals(Set.of(api), graph.getDependencies(impl));
+        assertEquals(Set.of(api, impl), graph.getDependencies(web));
+        assertEquals(Set.of(impl), graph.getDependencies(fragment));
+        assertTrue(graph.getCyclic().isEmpty());
+    }
+
+    @Test
+    void testCyclicDependencies() throws IOException {
+        BundleInfo first = this.createBundle("first", "com.adeptj.first", "com.adeptj.second", null);
+        BundleInfo second = this.createBundle("second", "com.adeptj.second", "com.adeptj.first", null);
+        BundleInfo third = this.createBundle("third", null, "com.adeptj.second", null);
+        BundleInfo api = this.createBundle("api", "com.adeptj.api", null, null);
+        BundleGraph graph = BundleGraph.of(List.of(first, second, third, api));
+        assertEquals(List.of(List.of(api), List.of(first, second, third)), graph.getLayers());
+        assertEquals(List.of(first, second, third), graph.getCyclic());
+    }
+
+    private BundleInfo createBundle(String name, String exports, String imports, String host) throws IOException {
+        return BundleInfo.of(TestBundles.writeBundle(this.directory, name, Constants.EXPORT_PACKAGE, exports,
+                Constants.IMPORT_PACKAGE, imports, Constants.FRAGMENT_HOST, host));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link BundleInfo}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleInfoTest {
+
+    private static final String LOCAL_HEADER_SIGNATURE = "PK\u0003\u0004";
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int GENERAL_PURPOSE_FLAG_OFFSET = 6;
+
+    private static final byte DATA_DESCRIPTOR_FLAG = 0x08;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMetadata() throws Exception {
+        File jar = this.createJar();
+        BundleInfo info = BundleInfo.of(jar);
+        assertEquals("com.adeptj.example", info.getSymbolicName());
+        assertEquals("1.0.0", info.getBundleVersion());
+        assertEquals("org.osgi.framework;version=\"[1.10,2)\"", info.getImportPackage());
+        assertEquals("com.adeptj.example.api;version=\"1.0.0\"", info.getExportPackage());
+        assertEquals("com.adeptj.host", info.getFragmentHost());
+        assertTrue(info.isFragment());
+        // META-INF/MANIFEST.MF and the class.
+        assertEquals(2, info.getEntryCount());
+        MessageDigest digest = MessageDigest.getInstance(Constants.DIGEST_ALGORITHM);
+        assertEquals(HexFormat.of().formatHex(digest.digest(Files.readAllBytes(jar.toPath()))), info.getDigest());
+    }
+
+    @Test
+    void testCache() throws IOException {
+        File jar = this.createJar();
+        BundleInfo info = BundleInfo.of(jar);
+        assertSame(info, BundleInfo.of(jar));
+        assertTrue(jar.setLastModified(jar.lastModified() - 10_000));
+        assertNotSame(info, BundleInfo.of(jar));
+    }
+
+    @Test
+    void testStoredEntryWithDataDescriptor() throws Exception {
+        Map<String, String> headers = TestBundles.headers(Constants.BUNDLE_NAME, "Example",
+                Constants.BUNDLE_SYMBOLIC_NAME, "com.adeptj.example", Constants.BUNDLE_VERSION, "1.0.0");
+        String name = "com/adeptj/example/api/Example.class";
+        File jar = TestBundles.writeJar(this.directory.resolve("stored.jar"), headers, Map.of(name, "class"),
+                ZipEntry.STORED);
+        // Flag the data descriptor in the local header of the STORED entry, which ZipInputStream refuses.
+        byte[] bytes = Files.readAllBytes(jar.toPath());
+        int header = this.indexOf(bytes, (LOCAL_HEADER_SIGNATURE + name).getBytes(ISO_8859_1), name.length());
+        bytes[header + GENERAL_PURPOSE_FLAG_OFFSET] |= DATA_DESCRIPTOR_FLAG;
+        Files.write(jar.toPath(), bytes);
+        BundleInfo info = BundleInfo.of(jar);
+        assertEquals(2, info.getEntryCount());
+        CRC32 crc = new CRC32();
+        crc.update("class".getBytes(ISO_8859_1));
+        assertEquals(Long.toHexString(crc.getValue()) + ":5", info.getEntries().get(name));
+        MessageDigest digest = MessageDigest.getInstance(Constants.DIGEST_ALGORITHM);
+        assertEquals(HexFormat.of().formatHex(digest.digest(bytes)), info.getDigest());
+    }
+
+    /**
+     * Offset of the local header whose name is given, the header fields between the signature and the name skipped.
+     */
+    private int indexOf(byte[] bytes, byte[] signatureAndName, int nameLength) {
+        int signatureLength = signatureAndName.length - nameLength;
+        for (int index = 0; index + LOCAL_HEADER_SIZE + nameLength <= bytes.length; index++) {
+            if (Arrays.equals(bytes, index, index + signatureLength, signatureAndName, 0, signatureLength)
+                    && Arrays.equals(bytes, index + LOCAL_HEADER_SIZE, index + LOCAL_HEADER_SIZE + nameLength,
+                    signatureAndName, signatureLength, signatureAndName.length)) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("No local header found!!");
+    }
+
+    private File createJar() throws IOException {
+        Map<String, String> headers = TestBundles.headers(Constants.BUNDLE_NAME, "Example",
+                Constants.BUNDLE_SYMBOLIC_NAME, "com.adeptj.example;singleton:=true",
+                Constants.BUNDLE_VERSION, "1.0.0",
+                Constants.IMPORT_PACKAGE, "org.osgi.framework;version=\"[1.10,2)\"",
+                Constants.EXPORT_PACKAGE, "com.adeptj.example.api;version=\"1.0.0\"",
+                Constants.FRAGMENT_HOST, "com.adeptj.host");
+        return TestBundles.writeJar(this.directory.resolve("example.jar"), headers,
+                Map.of("com/adeptj/example/api/Example.class", "class"), ZipEntry.DEFLATED);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link BundleInstallAllMojo}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+@ExtendWith(MockitoExtension.class)
+public class BundleInstallAllMojoTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGetBundleInfosSkipsNonBundleProjects() throws IOException {
+        BundleInstallAllMojo mojo = new BundleInstallAllMojo();
+        mojo.reactorProjects = List.of(
+                this.newProject("bundle", "com.adeptj.bundle"),
+                this.newProject("plain", null),
+                this.newProject("parent", ""));
+        List<BundleInfo> infos = mojo.getBundleInfos();
+        assertEquals(1, infos.size());
+        assertEquals("com.adeptj.bundle", infos.get(0).getSymbolicName());
+    }
+
+    @Test
+    void testRefreshDueOnlyWhenInstallApplied() {
+        BundleInstallAllMojo mojo = new BundleInstallAllMojo();
+        mojo.refreshPackages = true;
+        mojo.coalesceRefresh = true;
+        BundleResult skipped = BundleResult.skipped("com.adeptj.skipped", "unchanged", 0);
+        BundleResult failed = BundleResult.failed("com.adeptj.failed", "500 Internal Server Error", 0);
+        assertFalse(mojo.isRefreshDue(List.of(skipped, skipped)));
+        assertFalse(mojo.isRefreshDue(List.of(skipped, failed)));
+        assertTrue(mojo.isRefreshDue(List.of(skipped, BundleResult.success("com.adeptj.installed", "200 OK", 0))));
+    }
+
+    @Test
+    void testRefreshNeverCoalescedByInstallGoal() {
+        BundleInstallMojo mojo = new BundleInstallMojo();
+        mojo.refreshPackages = true;
+        mojo.coalesceRefresh = true;
+        assertFalse(mojo.isRefreshDue(List.of(BundleResult.success("com.adeptj.installed", "200 OK", 0))));
+    }
+
+    private MavenProject newProject(String name, String symbolicName) throws IOException {
+        File directory = Files.createDirectories(this.tempDir.resolve(name)).toFile();
+        if (symbolicName != null) {
+            // A plain jar without the bundle headers if the symbolic name is empty.
+            Map<String, String> headers = symbolicName.isEmpty() ? Map.of() : TestBundles.headers(
+                    Constants.BUNDLE_NAME, name, Constants.BUNDLE_SYMBOLIC_NAME, symbolicName,
+                    Constants.BUNDLE_VERSION, "1.0.0");
+            TestBundles.writeJar(directory.toPath().resolve(name + ".jar"), headers, Map.of(), ZipEntry.DEFLATED);
+        }
+        MavenProject project = new MavenProject();
+        Build build = new Build();
+        build.setDirectory(directory.getAbsolutePath());
+        build.setFinalName(name);
+        project.setBuild(build);
+        return project;
+    }
+}
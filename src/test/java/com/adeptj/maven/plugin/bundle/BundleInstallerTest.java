@@ -0,0 +1,97 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Test cases for {@link BundleInstaller}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleInstallerTest {
+
+    @Test
+    void testGetPullUrl() {
+        Artifact artifact = new DefaultArtifact("com.adeptj", "adeptj-runtime-api", "1.2.0", null, "bundle", null,
+                new DefaultArtifactHandler("bundle"));
+        assertEquals("http://nexus.lan/repository/releases/com/adeptj/adeptj-runtime-api/1.2.0/"
+                + "adeptj-runtime-api-1.2.0.jar", BundleInstaller.getPullUrl("http://nexus.lan/repository/releases/",
+                artifact, artifact.getVersion()));
+        artifact = new DefaultArtifact("com.adeptj", "adeptj-runtime-api", "1.3.0-SNAPSHOT", null, "bundle",
+                "tests", new DefaultArtifactHandler("bundle"));
+        assertEquals("http://nexus.lan/repository/snapshots/com/adeptj/adeptj-runtime-api/1.3.0-SNAPSHOT/"
+                + "adeptj-runtime-api-1.3.0-20261018.042608-3-tests.jar", BundleInstaller.getPullUrl(
+                "http://nexus.lan/repository/snapshots", artifact, "1.3.0-20261018.042608-3"));
+    }
+
+    @Test
+    void testGetSnapshotVersion() throws IOException {
+        String metadata = """
+                <metadata modelVersion="1.1.0">
+                  <groupId>com.adeptj</groupId>
+                  <artifactId>adeptj-runtime-api</artifactId>
+                  <version>1.3.0-SNAPSHOT</version>
+                  <versioning>
+                    <snapshot>
+                      <timestamp>20261018.042608</timestamp>
+                      <buildNumber>3</buildNumber>
+                    </snapshot>
+                    <snapshotVersions>
+                      <snapshotVersion>
+                        <extension>pom</extension>
+                        <value>1.3.0-20261018.042608-3</value>
+                      </snapshotVersion>
+                      <snapshotVersion>
+                        <classifier>tests</classifier>
+                        <extension>jar</extension>
+                        <value>1.3.0-20261018.042608-3</value>
+                      </snapshotVersion>
+                      <snapshotVersion>
+                        <extension>jar</extension>
+                        <value>1.3.0-20261018.042607-2</value>
+                      </snapshotVersion>
+                    </snapshotVersions>
+                  </versioning>
+                </metadata>
+                """;
+        Artifact artifact = new DefaultArtifact("com.adeptj", "adeptj-runtime-api", "1.3.0-SNAPSHOT", null, "bundle",
+                null, new DefaultArtifactHandler("bundle"));
+        assertEquals("1.3.0-20261018.042607-2", BundleInstaller.getSnapshotVersion(
+                new ByteArrayInputStream(metadata.getBytes(UTF_8)), artifact));
+        Artifact tests = new DefaultArtifact("com.adeptj", "adeptj-runtime-api", "1.3.0-SNAPSHOT", null, "bundle",
+                "tests", new DefaultArtifactHandler("bundle"));
+        assertEquals("1.3.0-20261018.042608-3", BundleInstaller.getSnapshotVersion(
+                new ByteArrayInputStream(metadata.getBytes(UTF_8)), tests));
+        Artifact sources = new DefaultArtifact("com.adeptj", "adeptj-runtime-api", "1.3.0-SNAPSHOT", null, "bundle",
+                "sources", new DefaultArtifactHandler("bundle"));
+        assertNull(BundleInstaller.getSnapshotVersion(new ByteArrayInputStream(metadata.getBytes(UTF_8)), sources));
+    }
+}
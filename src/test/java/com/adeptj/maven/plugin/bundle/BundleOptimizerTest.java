@@ -0,0 +1,96 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link BundleOptimizer}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleOptimizerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testOptimize() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("com/adeptj/example/Example.class", "class ".repeat(1000));
+        entries.put("static/app.js", "var app = {};".repeat(1000));
+        entries.put("static/app.js.map", "{\"mappings\": \"\"}".repeat(1000));
+        File bundle = this.createJar("example.jar", entries);
+        BundleOptimizer optimizer = new BundleOptimizer(this.directory.resolve("store"), List.of("*.map"), 9);
+        BundleOptimizer.Result result = optimizer.optimize(BundleInfo.of(bundle));
+        assertFalse(result.isCached());
+        assertEquals(1, result.getExcluded());
+        assertTrue(result.getSavedBytes() > 0);
+        try (JarFile jar = new JarFile(result.getFile().toFile())) {
+            assertEquals("com.adeptj.example", jar.getManifest().getMainAttributes()
+                    .getValue(Constants.BUNDLE_SYMBOLIC_NAME));
+            assertNull(jar.getEntry("static/app.js.map"));
+            ZipEntry entry = jar.getEntry("com/adeptj/example/Example.class");
+            assertEquals(ZipEntry.DEFLATED, entry.getMethod());
+            assertEquals("class ".repeat(1000), new String(jar.getInputStream(entry).readAllBytes(), UTF_8));
+        }
+        assertTrue(optimizer.optimize(BundleInfo.of(bundle)).isCached());
+    }
+
+    @Test
+    void testSignedJarKeepsEntries() throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("META-INF/EXAMPLE.SF", "Signature-Version: 1.0\n");
+        entries.put("static/app.js.map", "{}");
+        File bundle = this.createJar("signed.jar", entries);
+        BundleOptimizer optimizer = new BundleOptimizer(this.directory.resolve("store"), List.of("*.map"), 9);
+        BundleOptimizer.Result result = optimizer.optimize(BundleInfo.of(bundle));
+        assertEquals(0, result.getExcluded());
+        try (JarFile jar = new JarFile(result.getFile().toFile())) {
+            assertNotNull(jar.getEntry("static/app.js.map"));
+            assertNotNull(jar.getEntry("META-INF/EXAMPLE.SF"));
+        }
+        assertTrue(BundleOptimizer.isProtected("META-INF/MANIFEST.MF"));
+        assertFalse(BundleOptimizer.isProtected("META-INF/maven/example/pom.xml"));
+    }
+
+    private File createJar(String name, Map<String, String> entries) throws IOException {
+        // Stored, as the build tools do for some resources.
+        return TestBundles.writeJar(this.directory.resolve(name), TestBundles.headers(Constants.BUNDLE_NAME, "Example",
+                Constants.BUNDLE_SYMBOLIC_NAME, "com.adeptj.example"), entries, ZipEntry.STORED);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link BundleSnapshot}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleSnapshotTest {
+
+    @Test
+    void testLookup() {
+        BundleSnapshot snapshot = new BundleSnapshot(List.of(this.createBundle(0, null, null),
+                this.createBundle(7, "com.adeptj.a", null), this.createBundle(8, "com.adeptj.b", null)));
+        assertEquals(2, snapshot.size());
+        // Not installed, known without asking the server.
+        assertTrue(snapshot.isDetailed("com.adeptj.c"));
+        assertNull(snapshot.get("com.adeptj.c"));
+        assertFalse(snapshot.isDetailed("com.adeptj.a"));
+        RemoteBundle details = this.createBundle(7, "com.adeptj.a", "1700000000000");
+        snapshot.update("com.adeptj.a", details);
+        assertTrue(snapshot.isDetailed("com.adeptj.a"));
+        assertSame(details, snapshot.get("com.adeptj.a"));
+    }
+
+    @Test
+    void testInstallAndUninstall() {
+        BundleSnapshot snapshot = new BundleSnapshot(List.of(this.createBundle(7, "com.adeptj.a", null),
+                this.createBundle(8, "com.adeptj.b", null)));
+        snapshot.markStale("com.adeptj.c");
+        assertTrue(snapshot.isStale("com.adeptj.c"));
+        assertFalse(snapshot.isDetailed("com.adeptj.c"));
+        snapshot.update("com.adeptj.c", this.createBundle(9, "com.adeptj.c", "1700000000000"));
+        assertFalse(snapshot.isStale("com.adeptj.c"));
+        assertEquals(9, snapshot.get("com.adeptj.c").getId());
+        snapshot.remove("8");
+        snapshot.remove("com.adeptj.c");
+        assertNull(snapshot.get("com.adeptj.b"));
+        assertNull(snapshot.get("com.adeptj.c"));
+        assertEquals(1, snapshot.size());
+    }
+
+    private RemoteBundle createBundle(long id, String symbolicName, String lastModified) {
+        RemoteBundle bundle = new RemoteBundle();
+        bundle.setId(id);
+        bundle.setSymbolicName(symbolicName);
+        bundle.setVersion("1.0.0");
+        bundle.setLastModified(lastModified);
+        return bundle;
+    }
+}
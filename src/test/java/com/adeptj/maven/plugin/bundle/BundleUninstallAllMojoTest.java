@@ -0,0 +1,59 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link BundleUninstallAllMojo}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class BundleUninstallAllMojoTest {
+
+    @Test
+    void testGetSymbolicName() {
+        assertEquals("com.adeptj.modules.jaxrs", BundleUninstallAllMojo.getSymbolicName("com.adeptj",
+                "modules.jaxrs"));
+        assertEquals("org.apache.maven", BundleUninstallAllMojo.getSymbolicName("org.apache.maven", "maven"));
+        assertEquals("org.apache.maven.core", BundleUninstallAllMojo.getSymbolicName("org.apache.maven",
+                "maven-core"));
+        assertEquals("adeptj.runtime", BundleUninstallAllMojo.getSymbolicName("adeptj", "runtime"));
+    }
+
+    @Test
+    void testMatches() {
+        List<Pattern> patterns = BundleUninstallAllMojo.toPatterns(List.of("com.adeptj.modules.*", " ",
+                "org.apache.felix.http.?ase"));
+        assertEquals(2, patterns.size());
+        assertTrue(BundleUninstallAllMojo.matches("com.adeptj.modules.jaxrs.core", patterns));
+        assertTrue(BundleUninstallAllMojo.matches("org.apache.felix.http.base", patterns));
+        assertFalse(BundleUninstallAllMojo.matches("com.adeptj.runtime", patterns));
+        assertFalse(BundleUninstallAllMojo.matches("comXadeptjXmodules.jaxrs", patterns));
+        assertFalse(BundleUninstallAllMojo.matches(null, patterns));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link ConsoleJson}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class ConsoleJsonTest {
+
+    private static final String BUNDLE_JSON = """
+            {"status":"Bundle information: 2 bundles in total.","s":[2,2,0,0,0],"data":[
+            {"id":0,"name":"System Bundle","fragment":false,"stateRaw":32,"state":"Active","version":"7.0.5",
+            "symbolicName":"org.apache.felix.framework","category":""},
+            {"id":42,"name":"Example","fragment":false,"stateRaw":4,"state":"Resolved","version":"1.0.0",
+            "symbolicName":"com.adeptj.example","props":[{"key":"Symbolic Name","value":"com.adeptj.example"},
+            {"key":"Exported Packages","value":["com.adeptj.example.api,version=1.0.0"]},
+            {"key":"Imported Packages","value":["org.osgi.framework,version=1.10.0"]},
+            {"key":"Last Modification","value":"Sun Oct 18 02:57:27 UTC 2026"}]}]}
+            """;
+
+    private static final String SERVICES_JSON = """
+            {"status":"Services information: 2 services in total.","serviceCount":2,"data":[
+            {"id":"1","types":["org.osgi.service.log.LogReaderService"],"pid":"","ranking":"","bundleId":0},
+            {"id":"2","types":["com.adeptj.Foo","com.adeptj.Bar"],"pid":"com.adeptj.Foo","bundleId":42}]}
+            """;
+
+    @Test
+    void testParseBundles() throws IOException {
+        List<RemoteBundle> bundles = ConsoleJson.parseBundles(new ByteArrayInputStream(BUNDLE_JSON.getBytes(UTF_8)));
+        assertEquals(2, bundles.size());
+        assertTrue(bundles.get(0).isActive());
+        RemoteBundle bundle = bundles.get(1);
+        assertEquals(42, bundle.getId());
+        assertEquals("com.adeptj.example", bundle.getSymbolicName());
+        assertEquals("1.0.0", bundle.getVersion());
+        assertEquals("Resolved", bundle.getState());
+        assertEquals("Sun Oct 18 02:57:27 UTC 2026", bundle.getLastModified());
+        assertEquals(List.of("com.adeptj.example.api,version=1.0.0"), bundle.getExportedPackages());
+    }
+
+    @Test
+    void testParseServiceTypes() throws IOException {
+        Set<String> types = ConsoleJson.parseServiceTypes(new ByteArrayInputStream(SERVICES_JSON.getBytes(UTF_8)));
+        assertEquals(Set.of("org.osgi.service.log.LogReaderService", "com.adeptj.Foo", "com.adeptj.Bar"), types);
+    }
+
+    @Test
+    void testParseResult() throws IOException {
+        ClientResponse.ConsoleResult result = ConsoleJson.parseResult(new ByteArrayInputStream(
+                "{\"fragment\":false,\"stateRaw\":32,\"props\":[{\"key\":\"a\"}],\"id\":42}".getBytes(UTF_8)));
+        assertEquals(42, result.getBundleId());
+        assertEquals(32, result.getStateRaw());
+        assertNull(result.getError());
+        assertNull(result.getDigest());
+        result = ConsoleJson.parseResult(new ByteArrayInputStream(
+                "{\"id\":7,\"stateRaw\":2,\"digest\":\"9f86d081\"}".getBytes(UTF_8)));
+        assertEquals("9f86d081", result.getDigest());
+        // Truncated, the fields read so far are kept.
+        result = ConsoleJson.parseResult(new ByteArrayInputStream(
+                "{\"error\":\"Bundle is not a valid jar\",\"stateRaw\":".getBytes(UTF_8)));
+        assertEquals("Bundle is not a valid jar", result.getError());
+        assertEquals(-1, result.getStateRaw());
+        assertNull(ConsoleJson.parseResult(new ByteArrayInputStream("<html>".getBytes(UTF_8))));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link DeployPlan}, {@link TimingHistory} and the history of {@link DeployMetrics}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class DeployPlanTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        DeployPlan plan = new DeployPlan();
+        plan.put("http://node2:8080", List.of(new DeployPlan.Step("com.adeptj.api", "1.0.0",
+                DeployPlan.Action.SKIP, "/tmp/api.jar", "abc", 0, 0)));
+        plan.put("http://node1:8080", List.of(
+                new DeployPlan.Step("com.adeptj.api", "1.0.0", DeployPlan.Action.UPDATE, "/tmp/api.jar", "abc",
+                        2048, 120),
+                new DeployPlan.Step("com.adeptj.old", "0.9.0", DeployPlan.Action.UNINSTALL, null, null, 0, 30)));
+        Path file = this.directory.resolve("plan.json");
+        plan.write(file);
+        DeployPlan read = DeployPlan.read(file);
+        assertEquals(plan.getCreated(), read.getCreated());
+        assertEquals(List.of("http://node1:8080", "http://node2:8080"), read.getTargets());
+        List<DeployPlan.Step> steps = read.getSteps("http://node1:8080");
+        assertEquals(2, steps.size());
+        assertEquals(DeployPlan.Action.UPDATE, steps.get(0).getAction());
+        assertEquals("/tmp/api.jar", steps.get(0).getFile());
+        assertEquals("abc", steps.get(0).getDigest());
+        assertEquals(2048, steps.get(0).getBytes());
+        assertEquals(DeployPlan.Action.UNINSTALL, steps.get(1).getAction());
+        assertNull(steps.get(1).getFile());
+        assertEquals(2048, read.getBytes());
+        assertEquals(150, read.getEstimatedMillis());
+        assertEquals(0, read.getUnestimated());
+    }
+
+    @Test
+    void testTimingHistory() throws IOException {
+        Path file = this.directory.resolve("metrics.csv");
+        Files.writeString(file, String.join("\n",
+                "goal,startTime,target,bundle,phase,millis,bytes",
+                "install,2025-01-01T00:00:00Z,http://node1:8080,\"com.adeptj.a,b\",upload,100,10000",
+                "install,2025-01-01T00:00:00Z,http://node1:8080,com.adeptj.a,server-response,40,0",
+                "install,2025-01-01T00:00:00Z,http://node1:8080,com.adeptj.b,upload,300,10000",
+                "install,2025-01-01T00:00:00Z,http://node1:8080,com.adeptj.b,server-response,60,0",
+                "uninstall,2025-01-01T00:00:00Z,http://node2:8080,42,uninstall,30,0"), UTF_8);
+        TimingHistory history = TimingHistory.load(file);
+        // 400 ms per 20000 bytes and a 50 ms response on average.
+        assertEquals(250, history.estimateInstall("http://node1:8080", 10000));
+        assertEquals(250, history.estimateInstall("http://node3:8080", 10000));
+        assertEquals(30, history.estimateUninstall("http://node1:8080"));
+        assertTrue(TimingHistory.load(this.directory.resolve("missing.csv")).isEmpty());
+        assertEquals(-1, TimingHistory.load(this.directory.resolve("missing.csv")).estimateInstall("x", 1));
+    }
+
+    @Test
+    void testAppendHistory() throws IOException {
+        Path file = this.directory.resolve("history").resolve("deploy-history.csv");
+        DeployMetrics first = new DeployMetrics("install");
+        first.record("http://node1:8080", "com.adeptj.a", DeployMetrics.PHASE_UPLOAD, 100, 10000);
+        first.record("http://node1:8080", "com.adeptj.a", DeployMetrics.PHASE_SERVER_RESPONSE, 40, 0);
+        first.appendCsv(file, 3);
+        DeployMetrics second = new DeployMetrics("install");
+        second.record("http://node1:8080", "com.adeptj.b", DeployMetrics.PHASE_UPLOAD, 300, 10000);
+        second.record("http://node1:8080", "com.adeptj.b", DeployMetrics.PHASE_SERVER_RESPONSE, 60, 0);
+        second.appendCsv(file, 3);
+        List<String> lines = Files.readAllLines(file, UTF_8);
+        // The header and the last 3 rows, the first upload dropped.
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("goal,"));
+        assertTrue(lines.get(1).endsWith(",server-response,40,0"));
+        // 300 ms per 10000 bytes and a 50 ms response on average.
+        assertEquals(350, TimingHistory.load(file).estimateInstall("http://node1:8080", 10000));
+    }
+
+    @Test
+    void testAppendHistoryConcurrently() throws Exception {
+        Path file = this.directory.resolve("deploy-history.csv");
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int index = 0; index < 16; index++) {
+                String bundle = "com.adeptj.b" + index;
+                futures.add(executor.submit(() -> {
+                    DeployMetrics metrics = new DeployMetrics("install");
+                    metrics.record("http://node1:8080", bundle, DeployMetrics.PHASE_UPLOAD, 100, 10000);
+                    metrics.appendCsv(file, 100);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        // The header and a row per append, none lost.
+        assertEquals(17, Files.readAllLines(file, UTF_8).size());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link HttpConfig} and {@link HttpClientSupport}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class HttpConfigTest {
+
+    @Test
+    void testWithDefaults() {
+        HttpConfig config = new HttpConfig();
+        config.setConnectTimeout(3);
+        config.setMaxConnections(16);
+        HttpConfig effective = config.withDefaults(10, 60, 180, 1);
+        assertEquals(3, effective.getConnectTimeout());
+        assertEquals(60, effective.getSocketTimeout());
+        assertEquals(180, effective.getResponseTimeout());
+        assertEquals(16, effective.getMaxConnections());
+        assertNull(config.getSocketTimeout());
+        assertNotEquals(effective.getKey(), new HttpConfig().withDefaults(10, 60, 180, 1).getKey());
+        assertEquals(new HttpConfig().withDefaults(10, 60, 180, 1).getKey(),
+                new HttpConfig().withDefaults(10, 60, 180, 1).getKey());
+    }
+
+    @Test
+    void testTrustAndProxy() throws Exception {
+        HttpConfig config = new HttpConfig();
+        assertEquals(0, HttpClientSupport.loadTrust(config).size());
+        assertNull(HttpClientSupport.getProxy(config));
+        config.setProxyHost("proxy.internal");
+        config.setProxyPort(3128);
+        assertEquals("http://proxy.internal:3128", HttpClientSupport.getProxy(config).toURI());
+        assertNull(HttpClientSupport.getProxyCredentials(config));
+        config.setTrustCertificates(new File("does-not-exist.pem"));
+        assertThrows(IllegalArgumentException.class, () -> HttpClientSupport.getSslContext(config));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link JsonResponseHandler}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class JsonResponseHandlerTest {
+
+    @Test
+    void testOk() throws IOException {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200, "OK");
+        response.setEntity(new StringEntity("{\"data\":[{\"id\":7,\"symbolicName\":\"com.adeptj.a\",\"stateRaw\":32}]}",
+                ContentType.APPLICATION_JSON));
+        List<RemoteBundle> bundles = new JsonResponseHandler<>(ConsoleJson::parseBundles, null, 256)
+                .handleResponse(response);
+        assertEquals(1, bundles.size());
+        assertEquals("com.adeptj.a", bundles.get(0).getSymbolicName());
+    }
+
+    @Test
+    void testNotFound() throws IOException {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(404, "Not Found");
+        List<RemoteBundle> notFound = List.of();
+        assertEquals(notFound, new JsonResponseHandler<>(ConsoleJson::parseBundles, notFound, 256)
+                .handleResponse(response));
+        // The listing can't be not found, the console isn't there.
+        ConsoleException ex = assertThrows(ConsoleException.class,
+                () -> new JsonResponseHandler<>(ConsoleJson::parseBundles, null, 256).handleResponse(response));
+        assertEquals(404, ex.getCode());
+        assertFalse(RetryPolicy.isTransient(ex));
+    }
+
+    @Test
+    void testFailure() {
+        BasicClassicHttpResponse unavailable = new BasicClassicHttpResponse(503, "Service Unavailable");
+        unavailable.setEntity(new StringEntity("Framework is restarting", ContentType.TEXT_PLAIN));
+        JsonResponseHandler<List<RemoteBundle>> handler = new JsonResponseHandler<>(ConsoleJson::parseBundles,
+                List.of(), 256);
+        ConsoleException ex = assertThrows(ConsoleException.class, () -> handler.handleResponse(unavailable));
+        assertTrue(RetryPolicy.isTransient(ex));
+        assertTrue(ex.getMessage().endsWith("server said: [Framework is restarting]"), ex.getMessage());
+        // The login page the console redirects to once the server session has expired.
+        ex = assertThrows(ConsoleException.class,
+                () -> handler.handleResponse(new BasicClassicHttpResponse(302, "Found")));
+        assertTrue(ex.getResponse().isAuthRequired());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link PackageIndex}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class PackageIndexTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testGetUnresolved() throws IOException {
+        PackageIndex index = new PackageIndex();
+        index.addConsoleExport("org.osgi.framework,version=1.10.0");
+        index.addConsoleExport("org.slf4j,version=2.0.17");
+        index.addExports(this.createBundle("api", "com.adeptj.api;version=\"1.2.0\",com.adeptj.spi", null));
+        BundleInfo info = this.createBundle("impl", null, "org.osgi.framework;version=\"[1.8,2)\","
+                + "org.slf4j;version=\"[1.7,2)\",com.adeptj.api;com.adeptj.spi;version=\"[1.0,2)\","
+                + "com.adeptj.missing,com.adeptj.optional;resolution:=optional,java.util.function");
+        List<String> unresolved = index.getUnresolved(info);
+        assertEquals(3, unresolved.size());
+        assertTrue(unresolved.get(0).startsWith("org.slf4j;version=\"[1.7.0,2.0.0)\" doesn't match"));
+        assertTrue(unresolved.get(1).startsWith("com.adeptj.spi;version=\"[1.0.0,2.0.0)\" doesn't match"));
+        assertTrue(unresolved.get(2).startsWith("com.adeptj.missing;version=\"0.0.0\" is not exported"));
+    }
+
+    private BundleInfo createBundle(String name, String exports, String imports) throws IOException {
+        return BundleInfo.of(TestBundles.writeBundle(this.directory, name, Constants.EXPORT_PACKAGE, exports,
+                Constants.IMPORT_PACKAGE, imports));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link ResponseHandler} and {@link ClientResponse}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class ResponseHandlerTest {
+
+    @Test
+    void testErrorPage() throws IOException {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(500, "Server Error");
+        response.addHeader(HttpHeaders.RETRY_AFTER, "5");
+        response.addHeader(HttpHeaders.SERVER, "Jetty");
+        response.setEntity(new StringEntity("<html><head><style>h2 {color: red}</style><title>Error 500</title>"
+                + "</head><body><h2>HTTP ERROR 500 NullPointerException</h2>" + "<p>padding</p>".repeat(500)
+                + "</body></html>", ContentType.TEXT_HTML));
+        ClientResponse clientResponse = new ResponseHandler(256).handleResponse(response);
+        assertEquals(500, clientResponse.getCode());
+        assertEquals(1, clientResponse.getHeaders().length);
+        assertNotNull(clientResponse.getFirstHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(clientResponse.isBodyTruncated());
+        assertEquals(256, clientResponse.getBody().length());
+        String diagnostics = clientResponse.getDiagnostics();
+        assertTrue(diagnostics.startsWith("Error 500 HTTP ERROR 500 NullPointerException padding"), diagnostics);
+        assertEquals("Failed, server said: [" + diagnostics + "]", clientResponse.withDiagnostics("Failed"));
+    }
+
+    @Test
+    void testConsoleResult() throws IOException {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200, "OK");
+        response.setEntity(new StringEntity("{\"fragment\":false,\"stateRaw\":4}", ContentType.APPLICATION_JSON));
+        ClientResponse clientResponse = new ResponseHandler(256).handleResponse(response);
+        assertFalse(clientResponse.isBodyTruncated());
+        assertEquals("state: Resolved", clientResponse.getDiagnostics());
+        assertNull(new ResponseHandler().handleResponse(response).getDiagnostics());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.hc.client5.http.ClientProtocolException;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.MalformedChunkCodingException;
+import org.apache.hc.core5.http.NoHttpResponseException;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLHandshakeException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.file.NoSuchFileException;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link RetryPolicy} and {@link CircuitBreaker}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class RetryPolicyTest {
+
+    @Test
+    void testGetDelayMillis() {
+        RetryPolicy policy = new RetryPolicy(5, 100, 1000);
+        for (int index = 0; index < 100; index++) {
+            long first = policy.getDelayMillis(1, null);
+            assertTrue(first >= 50 && first <= 100);
+            long third = policy.getDelayMillis(3, null);
+            assertTrue(third >= 200 && third <= 400);
+            long capped = policy.getDelayMillis(10, null);
+            assertTrue(capped >= 500 && capped <= 1000);
+        }
+        assertEquals(5000, policy.getDelayMillis(1, this.createResponse(503, "5")));
+    }
+
+    @Test
+    void testGetRetryAfterMillis() {
+        assertEquals(0, RetryPolicy.getRetryAfterMillis(null));
+        assertEquals(0, RetryPolicy.getRetryAfterMillis(this.createResponse(503, null)));
+        assertEquals(120_000, RetryPolicy.getRetryAfterMillis(this.createResponse(503, "120")));
+        String date = DateUtils.formatStandardDate(Instant.now().plusSeconds(60));
+        long millis = RetryPolicy.getRetryAfterMillis(this.createResponse(503, date));
+        assertTrue(millis > 55_000 && millis <= 60_000);
+        assertEquals(0, RetryPolicy.getRetryAfterMillis(this.createResponse(503, "soon")));
+    }
+
+    @Test
+    void testIsTransient() {
+        assertTrue(RetryPolicy.isTransient(this.createResponse(503, null)));
+        assertTrue(RetryPolicy.isTransient(this.createResponse(502, null)));
+        assertFalse(RetryPolicy.isTransient(this.createResponse(500, null)));
+        assertFalse(RetryPolicy.isTransient(this.createResponse(200, null)));
+        assertTrue(RetryPolicy.isTransient(new SocketException("Connection reset")));
+        assertTrue(RetryPolicy.isTransient(new SocketTimeoutException("Read timed out")));
+        assertFalse(RetryPolicy.isTransient(new UnknownHostException("adeptj")));
+        assertFalse(RetryPolicy.isTransient(new InterruptedIOException()));
+    }
+
+    @Test
+    void testIsTransientOnlyForTransportFailures() {
+        assertTrue(RetryPolicy.isTransient(new ConnectException("Connection refused")));
+        assertTrue(RetryPolicy.isTransient(new ConnectTimeoutException("Connect timed out")));
+        assertTrue(RetryPolicy.isTransient(new NoHttpResponseException("localhost:9007 failed to respond")));
+        assertFalse(RetryPolicy.isTransient(new IOException()));
+        assertFalse(RetryPolicy.isTransient(new FileNotFoundException("target/bundle.jar")));
+        assertFalse(RetryPolicy.isTransient(new NoSuchFileException("target/bundle.jar")));
+        assertFalse(RetryPolicy.isTransient(new ClientProtocolException("Invalid response")));
+        assertFalse(RetryPolicy.isTransient(new MalformedChunkCodingException("Bad chunk header")));
+        assertFalse(RetryPolicy.isTransient(new SSLHandshakeException("PKIX path building failed")));
+    }
+
+    @Test
+    void testCircuitBreaker() throws IOException {
+        CircuitBreaker breaker = CircuitBreaker.of("http://localhost:9007", 2, 0);
+        breaker.acquire();
+        assertFalse(breaker.onFailure());
+        assertTrue(breaker.onFailure());
+        assertTrue(breaker.isOpen());
+        // Open duration elapsed, a single trial call goes through.
+        breaker.acquire();
+        assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+        assertTrue(breaker.onFailure());
+        breaker.acquire();
+        breaker.onSuccess();
+        assertFalse(breaker.isOpen());
+        breaker.acquire();
+        CircuitBreaker.of("http://localhost:9007", 1, 60_000).onFailure();
+        assertThrows(CircuitBreaker.OpenException.class, breaker::acquire);
+    }
+
+    private ClientResponse createResponse(int code, String retryAfter) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(code);
+        if (retryAfter != null) {
+            response.addHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return new ClientResponse(response);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link ServerExports}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class ServerExportsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testStoreAndLoad() throws IOException {
+        ServerExports exports = new ServerExports();
+        exports.put(this.createBundle(1, "org.apache.felix.framework", "7.0.5",
+                "org.osgi.framework,version=1.10.0", "org.osgi.resource,version=1.0.1"));
+        exports.put(this.createBundle(2, "com.adeptj.api", "1.0.0-SNAPSHOT"));
+        Path file = ServerExports.getFile(this.directory, "http://localhost:8080");
+        exports.store(file);
+        ServerExports loaded = ServerExports.load(file);
+        assertNotNull(loaded);
+        assertEquals(2, loaded.size());
+        assertEquals(2, loaded.toIndex().size());
+        assertTrue(loaded.isCurrent(this.createBundle(1, "org.apache.felix.framework", "7.0.5")));
+        assertTrue(loaded.isCurrent(this.createBundle(2, "com.adeptj.api", "1.0.0-SNAPSHOT")));
+        assertFalse(loaded.isExpired(60_000));
+        assertTrue(loaded.isExpired(-1));
+    }
+
+    @Test
+    void testIsCurrent() {
+        ServerExports exports = new ServerExports();
+        exports.put(this.createBundle(5, "com.adeptj.api", "1.0.0", "com.adeptj.api,version=1.0.0"));
+        assertTrue(exports.isCurrent(this.createBundle(5, "com.adeptj.api", "1.0.0")));
+        // Updated to another version, or uninstalled and installed again.
+        assertFalse(exports.isCurrent(this.createBundle(5, "com.adeptj.api", "1.1.0")));
+        assertFalse(exports.isCurrent(this.createBundle(9, "com.adeptj.api", "1.0.0")));
+        assertFalse(exports.isCurrent(this.createBundle(6, "com.adeptj.impl", "1.0.0")));
+    }
+
+    @Test
+    void testRetainAndInvalidate() throws IOException {
+        ServerExports exports = new ServerExports();
+        exports.put(this.createBundle(5, "com.adeptj.api", "1.0.0", "com.adeptj.api,version=1.0.0"));
+        exports.put(this.createBundle(6, "com.adeptj.impl", "1.0.0"));
+        assertFalse(exports.retain(List.of(this.createBundle(5, "com.adeptj.api", "1.0.0"),
+                this.createBundle(6, "com.adeptj.impl", "1.0.0"))));
+        assertTrue(exports.retain(List.of(this.createBundle(5, "com.adeptj.api", "1.0.0"))));
+        assertEquals(1, exports.size());
+        Path file = ServerExports.getFile(this.directory, "http://localhost:8080");
+        exports.store(file);
+        // Installed by the plugin since, the SNAPSHOT keeps its id and version.
+        ServerExports.invalidate(file, "com.adeptj.api");
+        ServerExports loaded = ServerExports.load(file);
+        assertNotNull(loaded);
+        assertFalse(loaded.isCurrent(this.createBundle(5, "com.adeptj.api", "1.0.0")));
+        assertTrue(loaded.toIndex().isEmpty());
+    }
+
+    private RemoteBundle createBundle(long id, String symbolicName, String version, String... exports) {
+        RemoteBundle bundle = new RemoteBundle();
+        bundle.setId(id);
+        bundle.setSymbolicName(symbolicName);
+        bundle.setVersion(version);
+        bundle.setExportedPackages(List.of(exports));
+        return bundle;
+    }
+}
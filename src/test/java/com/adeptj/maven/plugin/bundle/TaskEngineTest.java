@@ -0,0 +1,122 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+package com.adeptj.maven.plugin.bundle;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link TaskEngine}
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+public class TaskEngineTest {
+
+    @Test
+    void testPerHostLimit() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+        try (TaskEngine engine = new TaskEngine(2)) {
+            for (int index = 0; index < 10; index++) {
+                int value = index;
+                String baseUrl = index % 2 == 0 ? "http://a:8080" : "http://b:8080";
+                futures.add(engine.fork(baseUrl, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                    return value;
+                }));
+            }
+            engine.join();
+        }
+        // Two hosts, two tasks at a time on each.
+        assertTrue(maxRunning.get() <= 4);
+        for (int index = 0; index < 10; index++) {
+            assertEquals(index, futures.get(index).resultNow());
+        }
+    }
+
+    @Test
+    void testFailureCancelsSiblings() {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        IOException failure = new IOException("upload failed");
+        IOException thrown;
+        try (TaskEngine engine = new TaskEngine(4)) {
+            engine.fork("http://a:8080", () -> {
+                started.countDown();
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                return completed.incrementAndGet();
+            });
+            engine.fork("http://a:8080", () -> {
+                started.await();
+                throw failure;
+            });
+            thrown = assertThrows(IOException.class, engine::join);
+        }
+        assertSame(failure, thrown);
+        assertEquals(0, completed.get());
+    }
+
+    @Test
+    void testFailuresAggregated() {
+        Phaser failing = new Phaser(2);
+        MojoExecutionException thrown;
+        try (TaskEngine engine = new TaskEngine(2)) {
+            for (int index = 0; index < 2; index++) {
+                String message = "failure " + index;
+                engine.fork("http://a:8080", () -> {
+                    // Both fail together, not interruptibly, so neither is cancelled by the other's failure.
+                    failing.arriveAndAwaitAdvance();
+                    throw new MojoExecutionException(message);
+                });
+            }
+            thrown = assertThrows(MojoExecutionException.class, engine::join);
+        }
+        assertEquals(1, thrown.getSuppressed().length);
+        assertTrue(thrown.getSuppressed()[0] instanceof MojoExecutionException);
+    }
+
+    @Test
+    void testCheckedFailureWrapped() {
+        try (TaskEngine engine = new TaskEngine(1)) {
+            engine.fork("http://a:8080", () -> {
+                throw new Exception("unexpected");
+            });
+            IOException thrown = assertThrows(IOException.class, engine::join);
+            assertEquals("unexpected", thrown.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+###############################################################################
+#                                                                             #
+#    Copyright 2016-2024, AdeptJ (http://www.adeptj.com)                      #
+#                                                                             #
+#    Licensed under the Apache License, Version 2.0 (the "License");          #
+#    you may not use this file except in compliance with the License.         #
+#    You may obtain a copy of the License at                                  #
+#                                                                             #
+#        http://www.apache.org/licenses/LICENSE-2.0                           #
+#                                                                             #
+#    Unless required by applicable law or agreed to in writing, software      #
+#    distributed under the License is distributed on an "AS IS" BASIS,        #
+#    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. #
+#    See the License for the specific language governing permissions and      #
+#    limitations under the License.                                           #
+#                                                                             #
+###############################################################################
+*/
+
+package com.adeptj.maven.plugin.bundle;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes the bundle jars used by the test cases.
+ *
+ * @author Rakesh Kumar, AdeptJ
+ */
+final class TestBundles {
+
+    private TestBundles() {
+    }
+
+    /**
+     * Writes the manifest only jar, named after the bundle, of the bundle com.adeptj.{name} 1.0.0 to given directory.
+     *
+     * @param headers the other manifest headers as name and value pairs, those without a value are left out.
+     */
+    static File writeBundle(Path directory, String name, String... headers) throws IOException {
+        Map<String, String> manifest = headers(Constants.BUNDLE_NAME, name, Constants.BUNDLE_SYMBOLIC_NAME,
+                "com.adeptj." + name, Constants.BUNDLE_VERSION, "1.0.0");
+        manifest.putAll(headers(headers));
+        return writeJar(directory.resolve(name + ".jar"), manifest, Map.of(), ZipEntry.DEFLATED);
+    }
+
+    /**
+     * Writes a jar with given manifest headers and entries, the entries being compressed with given method.
+     */
+    static File writeJar(Path jar, Map<String, String> headers, Map<String, String> entries, int method)
+            throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        headers.forEach(manifest.getMainAttributes()::putValue);
+        try (OutputStream stream = Files.newOutputStream(jar);
+             JarOutputStream out = new JarOutputStream(stream, manifest)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                byte[] bytes = entry.getValue().getBytes(UTF_8);
+                ZipEntry zipEntry = new ZipEntry(entry.getKey());
+                if (method == ZipEntry.STORED) {
+                    CRC32 crc = new CRC32();
+                    crc.update(bytes);
+                    zipEntry.setMethod(ZipEntry.STORED);
+                    zipEntry.setSize(bytes.length);
+                    zipEntry.setCrc(crc.getValue());
+                }
+                out.putNextEntry(zipEntry);
+                out.write(bytes);
+                out.closeEntry();
+            }
+        }
+        return jar.toFile();
+    }
+
+    /**
+     * Manifest headers of given name and value pairs, in the given order, those without a value are left out.
+     */
+    static Map<String, String> headers(String... pairs) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int index = 0; index + 1 < pairs.length; index += 2) {
+            if (pairs[index + 1] != null) {
+                headers.put(pairs[index], pairs[index + 1]);
+            }
+        }
+        return headers;
+    }
+}